@@ -9,6 +9,9 @@ import javax.swing.*;
 public class AppMain {
     
     public static void main(String[] args) {
+        // start pre-generating boards while the menus are up
+        model.BoardPool.getInstance().warmUp();
+
         SwingUtilities.invokeLater(() -> {
             // Initialize with default user (admin can be set, regular user by default)
             GameFlowController flowController = new GameFlowController("player", false);
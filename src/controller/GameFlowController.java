@@ -67,8 +67,8 @@ public class GameFlowController {
     public void startGameBoard(String p1, String p2, Difficulty difficulty, int p1CharIndex, int p2CharIndex) {
         if (gameSetup != null) gameSetup.close();
         
-        // Initialize gameplay
-        gamePlayController.initializeGame(p1, p2, difficulty, p1CharIndex, p2CharIndex);
+        // Initialize gameplay (-Dhawk.seed=<n> replays the game with that seed)
+        gamePlayController.initializeGame(p1, p2, difficulty, p1CharIndex, p2CharIndex, Long.getLong("hawk.seed"));
         
         // Get the game board view from gameplay controller
         gameBoardView = gamePlayController.getGameBoardView();
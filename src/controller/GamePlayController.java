@@ -1,24 +1,22 @@
 package controller;
 
 import java.awt.*;
-import java.awt.event.WindowAdapter;
-import java.awt.event.WindowEvent;
-import java.awt.image.BufferedImage;
-import java.io.File;
 import java.time.LocalDateTime;
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import model.Board;
+import model.BoardDelta;
 import model.Board.Difficulty;
 import model.Cell;
 import model.Cell.CellState;
 import model.GameManger;
 import model.History;
+import model.QuestionSession;
 import model.Questions;
-import model.ResourceLoader;
 import model.SysData;
+import view.ChoiceDialog;
 import view.GameBoardView;
 import view.GifAnimationDialog;
+import view.StyledDialog;
 
 /**
  * GamePlayController manages the actual gameplay mechanics:
@@ -33,6 +31,12 @@ public class GamePlayController {
     private GameManger gameManager;
     private GameBoardView gameBoardView;
     
+    private static final Color WAIT_COLOR = new Color(255, 150, 0);
+    private static final Color CHOICE_HEADING_COLOR = new Color(100, 255, 100);
+    private static final Color ANSWER_COLOR = new Color(50, 150, 100);
+    private static final Color PASS_COLOR = new Color(200, 120, 50);
+    private static final Color SURPRISE_COLOR = new Color(180, 100, 255);
+    
     private Board board1;
     private Board board2;
     
@@ -71,11 +75,20 @@ public class GamePlayController {
     }
     
     public void initializeGame(String p1, String p2, Difficulty difficulty, int p1CharIndex, int p2CharIndex) {
+        initializeGame(p1, p2, difficulty, p1CharIndex, p2CharIndex, null);
+    }
+    
+    // seed: replays the game with that seed (same boards, questions and random effects); null = a new random game
+    public void initializeGame(String p1, String p2, Difficulty difficulty, int p1CharIndex, int p2CharIndex, Long seed) {
         this.player1Name = p1;
         this.player2Name = p2;
         
         gameManager = new GameManger();
-        gameManager.GameManager(difficulty);
+        if (seed != null) {
+            gameManager.GameManager(difficulty, seed);
+        } else {
+            gameManager.GameManager(difficulty);
+        }
         
         // Reset tracking variables
         stabilizerUsed = false;
@@ -96,8 +109,8 @@ public class GamePlayController {
         totalWrongQuestions = 0;
         totalMinesHit = 0;
         
-        // Reset questions asked counter for new game
-        SysData.resetAskedQuestions();
+        // This game's own question draws (nothing asked yet)
+        gameManager.setQuestionSession(SysData.newQuestionSession());
         
         // Preload all sound effects for minimal delay
         model.AudioManager audioManager = model.AudioManager.getInstance();
@@ -110,11 +123,9 @@ public class GamePlayController {
         // Stop background music when game starts
         audioManager.stopBackgroundMusic();
         
-        // Initialize boards
-        board1 = new Board(difficulty);
-        board2 = new Board(difficulty);
-        
-        gameManager.setBoard(board1);
+        // Initialize boards: player 1 plays the board the game started with, player 2 gets the next one
+        board1 = gameManager.getBoard();
+        board2 = gameManager.createBoard();
         
         int size = switch (difficulty) {
             case EASY -> 9;
@@ -161,67 +172,9 @@ public class GamePlayController {
     public void handleCellClick(int playerNum, int row, int col) {
         // Ignore clicks from non-current player
         if (playerNum != currentPlayer) {
-            // Show styled "not your turn" dialog
-            JDialog dialog = new JDialog();
-            dialog.setTitle("Not Your Turn");
-            dialog.setModal(true);
-            dialog.setSize(500, 280);
-            dialog.setLocationRelativeTo(null);
-            dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-            dialog.setResizable(false);
-            
-            JPanel mainPanel = new JPanel() {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
-                    Graphics2D g2 = (Graphics2D) g;
-                    Color c1 = new Color(8, 45, 40);
-                    Color c2 = new Color(5, 80, 60);
-                    GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                    g2.setPaint(gp);
-                    g2.fillRect(0, 0, getWidth(), getHeight());
-                }
-            };
-            mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-            mainPanel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
-            
-            // Title with icon
-            JLabel titleLabel = new JLabel("WAIT FOR YOUR TURN", SwingConstants.CENTER);
-            titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-            titleLabel.setForeground(new Color(255, 150, 0));
-            java.awt.image.BufferedImage waitIcon = model.ResourceLoader.loadImage("/resources/hourglass.png");
-            if (waitIcon != null) {
-                Image scaledIcon = waitIcon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-                titleLabel.setIcon(new ImageIcon(scaledIcon));
-                titleLabel.setIconTextGap(15);
-            }
-            titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            mainPanel.add(titleLabel);
-            mainPanel.add(Box.createVerticalStrut(20));
-            
-            // Message
-            JLabel messageLabel = new JLabel("<html><center>It's not your turn yet.<br>Please wait for the other player to finish their move.</center></html>", SwingConstants.CENTER);
-            messageLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-            messageLabel.setForeground(Color.WHITE);
-            messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            messageLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 100));
-            mainPanel.add(messageLabel);
-            mainPanel.add(Box.createVerticalStrut(20));
-            
-            // OK Button
-            JButton okBtn = new JButton("OK");
-            okBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-            okBtn.setMaximumSize(new Dimension(120, 40));
-            okBtn.setFont(new Font("Tahoma", Font.BOLD, 13));
-            okBtn.setBackground(new Color(50, 150, 100));
-            okBtn.setForeground(Color.WHITE);
-            okBtn.setFocusPainted(false);
-            okBtn.setBorder(BorderFactory.createLineBorder(new Color(100, 200, 150), 2));
-            okBtn.addActionListener(e -> dialog.dispose());
-            mainPanel.add(okBtn);
-            
-            dialog.add(mainPanel);
-            dialog.setVisible(true);
+            gameBoardView.showNotification("Wait for your turn",
+                    "It's not your turn yet. Please wait for the other player to finish their move.",
+                    WAIT_COLOR, "/resources/hourglass.png");
             return;
         }
         
@@ -253,7 +206,7 @@ public class GamePlayController {
         // -------- QUESTION --------
         if (cell.isQuestion() && cell.isHidden()) {
             cell.setState(CellState.REVEALED);
-            updateBoardDisplay(playerNum, currentBoard);
+            gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
             showQuestionChoiceDialog(playerNum, row, col);
             return;
         }
@@ -261,15 +214,15 @@ public class GamePlayController {
         // -------- SURPRISE --------
         if (cell.isSurprise() && cell.isHidden()) {
             cell.setState(CellState.REVEALED);
-            updateBoardDisplay(playerNum, currentBoard);
+            gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
             showSurpriseChoiceDialog(playerNum, row, col);
             return;
         }
         
         // -------- SAFE CELL --------
         if (cell.isHidden() && cell.isSafe()) {
-            currentBoard.reveal(row, col);
-            updateBoardDisplay(playerNum, currentBoard);
+            BoardDelta changed = currentBoard.reveal(row, col);
+            updateBoardDisplay(playerNum, currentBoard, changed);
             
             // Momentum only for EXTREME difficulty
             if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
@@ -320,7 +273,7 @@ public class GamePlayController {
             gameBoardView.updateShopStatus("Safety Net activated! Mine disabled.");
             model.AudioManager.getInstance().playSoundEffect("good_effect.wav");
             
-            showStyledInfoDialog("Safety Net Activated!",
+            gameBoardView.showNotification("Safety Net Activated!",
                     "The mine was automatically flagged and disabled.\nYour protection saved you!",
                     new Color(50, 180, 80), "/resources/net.png");
             
@@ -338,8 +291,8 @@ public class GamePlayController {
         }
         
         // Normal mine hit
-        currentBoard.reveal(row, col);
-        updateBoardDisplay(playerNum, currentBoard);
+        BoardDelta changed = currentBoard.reveal(row, col);
+        updateBoardDisplay(playerNum, currentBoard, changed);
         
         int prevMomentum = gameManager.getConsecutiveSafeCells();
         gameManager.processMineHit();
@@ -378,67 +331,9 @@ public class GamePlayController {
     
     public void handleCellRightClick(int playerNum, int row, int col) {
         if (playerNum != currentPlayer) {
-            // Show styled "not your turn" dialog
-            JDialog dialog = new JDialog();
-            dialog.setTitle("Not Your Turn");
-            dialog.setModal(true);
-            dialog.setSize(500, 280);
-            dialog.setLocationRelativeTo(null);
-            dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-            dialog.setResizable(false);
-            
-            JPanel mainPanel = new JPanel() {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
-                    Graphics2D g2 = (Graphics2D) g;
-                    Color c1 = new Color(8, 45, 40);
-                    Color c2 = new Color(5, 80, 60);
-                    GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                    g2.setPaint(gp);
-                    g2.fillRect(0, 0, getWidth(), getHeight());
-                }
-            };
-            mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-            mainPanel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
-            
-            // Title with icon
-            JLabel titleLabel = new JLabel("WAIT FOR YOUR TURN", SwingConstants.CENTER);
-            titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-            titleLabel.setForeground(new Color(255, 150, 0));
-            java.awt.image.BufferedImage waitIcon = model.ResourceLoader.loadImage("/resources/hourglass.png");
-            if (waitIcon != null) {
-                Image scaledIcon = waitIcon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-                titleLabel.setIcon(new ImageIcon(scaledIcon));
-                titleLabel.setIconTextGap(15);
-            }
-            titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            mainPanel.add(titleLabel);
-            mainPanel.add(Box.createVerticalStrut(20));
-            
-            // Message
-            JLabel messageLabel = new JLabel("<html><center>It's not your turn yet.<br>Please wait for the other player to finish their move.</center></html>", SwingConstants.CENTER);
-            messageLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-            messageLabel.setForeground(Color.WHITE);
-            messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-            messageLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 100));
-            mainPanel.add(messageLabel);
-            mainPanel.add(Box.createVerticalStrut(20));
-            
-            // OK Button
-            JButton okBtn = new JButton("OK");
-            okBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-            okBtn.setMaximumSize(new Dimension(120, 40));
-            okBtn.setFont(new Font("Tahoma", Font.BOLD, 13));
-            okBtn.setBackground(new Color(50, 150, 100));
-            okBtn.setForeground(Color.WHITE);
-            okBtn.setFocusPainted(false);
-            okBtn.setBorder(BorderFactory.createLineBorder(new Color(100, 200, 150), 2));
-            okBtn.addActionListener(e -> dialog.dispose());
-            mainPanel.add(okBtn);
-            
-            dialog.add(mainPanel);
-            dialog.setVisible(true);
+            gameBoardView.showNotification("Wait for your turn",
+                    "It's not your turn yet. Please wait for the other player to finish their move.",
+                    WAIT_COLOR, "/resources/hourglass.png");
             return;
         }
         
@@ -544,241 +439,171 @@ public class GamePlayController {
             }
         }
     }
+
+    // redraws only the cells a board operation changed (the visible board for a bulk change)
+    private void updateBoardDisplay(int playerNum, Board board, BoardDelta changed) {
+        if (changed.isBulk()) {
+            gameBoardView.updateBoard(playerNum);
+            return;
+        }
+        int cols = board.getCols();
+        for (int i = 0; i < changed.size(); i++) {
+            int index = changed.getIndex(i);
+            int row = index / cols;
+            int col = index % cols;
+            Cell cell = board.getCell(row, col);
+            gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
+        }
+    }
     
     private void showQuestionChoiceDialog(int playerNum, int row, int col) {
         lastQuestionPlayer = playerNum;
         lastQuestionRow = row;
         lastQuestionCol = col;
         
-        JDialog dialog = new JDialog();
-        dialog.setTitle("Question Cell");
-        dialog.setSize(400, 200);
-        dialog.setLocationRelativeTo(null);
-        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-        dialog.setResizable(false);
-        dialog.setModal(true);
-        
-        JPanel mainPanel = new JPanel();
-        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setBackground(new Color(15, 25, 30));
-        mainPanel.setBorder(javax.swing.BorderFactory.createEmptyBorder(15, 20, 15, 20));
-        
-        JLabel label = new JLabel("Answer question now or pass?");
-        label.setFont(new Font("Tahoma", Font.BOLD, 14));
-        label.setForeground(new Color(100, 255, 100));
-        label.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(label);
-        mainPanel.add(Box.createVerticalStrut(20));
-        
-        Color greenColor = new Color(50, 150, 100);
-        Color orangeColor = new Color(200, 120, 50);
-        
-        JButton answerBtn = new JButton("Answer Now");
-        answerBtn.setFont(new Font("Tahoma", Font.BOLD, 13));
-        answerBtn.setBackground(greenColor);
-        answerBtn.setForeground(Color.WHITE);
-        answerBtn.setFocusPainted(false);
-        answerBtn.setMaximumSize(new Dimension(300, 40));
-        answerBtn.setPreferredSize(new Dimension(300, 40));
-        answerBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-        answerBtn.setHorizontalAlignment(SwingConstants.CENTER);
-        answerBtn.addActionListener(e -> {
-            dialog.dispose();
-            showQuestionDifficultyDialog(playerNum);
-        });
-        
-        JButton passBtn = new JButton("Pass");
-        passBtn.setFont(new Font("Tahoma", Font.BOLD, 13));
-        passBtn.setBackground(orangeColor);
-        passBtn.setForeground(Color.WHITE);
-        passBtn.setFocusPainted(false);
-        passBtn.setMaximumSize(new Dimension(300, 40));
-        passBtn.setPreferredSize(new Dimension(300, 40));
-        passBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-        passBtn.setHorizontalAlignment(SwingConstants.CENTER);
-        passBtn.addActionListener(e -> {
-            dialog.dispose();
-            Board board = (playerNum == 1) ? board1 : board2;
-            board.getCell(row, col).setState(CellState.REVEALED);
-            gameBoardView.updateCell(playerNum, row, col, board.getCell(row, col), "");
-            
-            // Track momentum for question attempt (whether attempting or passing)
-            if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
-                gameManager.awardSafeCellWithMomentum();
-                gameBoardView.updateMomentumDisplay(
-                        gameManager.getConsecutiveSafeCells(),
-                        gameManager.getMomentumTierDescription()
-                );
-            }
-            
-            switchTurn();
-        });
-        
-        mainPanel.add(answerBtn);
-        mainPanel.add(Box.createVerticalStrut(10));
-        mainPanel.add(passBtn);
-        dialog.add(mainPanel);
-        dialog.setVisible(true);
+        ChoiceDialog dialog = ChoiceDialog.obtain(ChoiceDialog.Kind.QUESTION_CHOICE);
+        dialog.display("Question Cell", "Answer question now or pass?", CHOICE_HEADING_COLOR, null, null,
+                new ChoiceDialog.Choice("Answer Now", ANSWER_COLOR, () -> {
+                    dialog.close();
+                    showQuestionDifficultyDialog(playerNum);
+                }),
+                new ChoiceDialog.Choice("Pass", PASS_COLOR, () -> {
+                    dialog.close();
+                    Board board = (playerNum == 1) ? board1 : board2;
+                    board.getCell(row, col).setState(CellState.REVEALED);
+                    gameBoardView.updateCell(playerNum, row, col, board.getCell(row, col), "");
+                    
+                    // Track momentum for question attempt (whether attempting or passing)
+                    if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
+                        gameManager.awardSafeCellWithMomentum();
+                        gameBoardView.updateMomentumDisplay(
+                                gameManager.getConsecutiveSafeCells(),
+                                gameManager.getMomentumTierDescription()
+                        );
+                    }
+                    
+                    switchTurn();
+                }));
     }
     
     private void showSurpriseChoiceDialog(int playerNum, int row, int col) {
-        JDialog dialog = new JDialog();
-        dialog.setTitle("Surprise Cell");
-        dialog.setModal(true);
-        dialog.setSize(400, 240);
-        dialog.setLocationRelativeTo(null);
-
-        JPanel mainPanel = new JPanel();
-        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setBackground(new Color(15, 25, 30));
-        mainPanel.setBorder(javax.swing.BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        ChoiceDialog dialog = ChoiceDialog.obtain(ChoiceDialog.Kind.SURPRISE_CHOICE);
+        dialog.display("Surprise Cell", "You uncovered a Surprise Cell!<br/>What do you want to do?", SURPRISE_COLOR,
+                null, null,
+                new ChoiceDialog.Choice("Try Your Luck", SURPRISE_COLOR, () -> {
+                    dialog.close();
+                    activateSurprise(playerNum, row, col);
+                }),
+                new ChoiceDialog.Choice("Pass", PASS_COLOR, () -> {
+                    dialog.close();
+                    passSurprise(playerNum, row, col);
+                }));
+    }
+    
+    // pass: we reveal S, mark that we passed it so it becomes darker but can still be used later
+    private void passSurprise(int playerNum, int row, int col) {
+        Board currentBoard = (playerNum == 1) ? board1 : board2;
+        Cell cell = currentBoard.getCell(row, col);
 
-        JLabel msg = new JLabel(
-                "<html>You uncovered a Surprise Cell!<br/>What do you want to do?</html>",
-                SwingConstants.CENTER
-        );
-        msg.setFont(new Font("Tahoma", Font.BOLD, 16));
-        msg.setForeground(new Color(180, 100, 255));
-        msg.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(msg);
-        mainPanel.add(Box.createVerticalStrut(20));
+        cell.setState(CellState.REVEALED);
+        cell.setSurprisePassed(true);
+        cell.setReadyForSurprise(false);
 
-        Color purpleColor = new Color(180, 100, 255);
-        Color orangeColor = new Color(200, 120, 50);
+        gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
         
-        JButton activateBtn = new JButton("Try Your Luck");
-        JButton passBtn = new JButton("Pass");
-        
-        for (JButton btn : new JButton[]{activateBtn, passBtn}) {
-            btn.setAlignmentX(Component.CENTER_ALIGNMENT);
-            btn.setMaximumSize(new Dimension(300, 40));
-            btn.setPreferredSize(new Dimension(300, 40));
-            btn.setFont(new Font("Tahoma", Font.BOLD, 13));
-            btn.setFocusPainted(false);
-            btn.setHorizontalAlignment(SwingConstants.CENTER);
+        // Track momentum for surprise attempt (passing counts toward streak)
+        if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
+            gameManager.awardSafeCellWithMomentum();
+            gameBoardView.updateMomentumDisplay(
+                    gameManager.getConsecutiveSafeCells(),
+                    gameManager.getMomentumTierDescription()
+            );
         }
-        
-        activateBtn.setBackground(purpleColor);
-        activateBtn.setForeground(Color.WHITE);
-        
-        passBtn.setBackground(orangeColor);
-        passBtn.setForeground(Color.WHITE);
-
-        // pass: we reveal S, mark that we passed it so it becomes darker but can still be used later
-        passBtn.addActionListener(e -> {
-            dialog.dispose();
 
-            Board currentBoard = (playerNum == 1) ? board1 : board2;
-            Cell cell = currentBoard.getCell(row, col);
+        switchTurn();
+    }
+    
+    // activate: we pay open cost, apply random good/bad effect and lock this surprise
+    private void activateSurprise(int playerNum, int row, int col) {
+        Board currentBoard = (playerNum == 1) ? board1 : board2;
+        Cell cell = currentBoard.getCell(row, col);
 
+        if (cell.isHidden()) {
             cell.setState(CellState.REVEALED);
-            cell.setSurprisePassed(true);
-            cell.setReadyForSurprise(false);
-
-            gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
-            
-            // Track momentum for surprise attempt (passing counts toward streak)
-            if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
-                gameManager.awardSafeCellWithMomentum();
-                gameBoardView.updateMomentumDisplay(
-                        gameManager.getConsecutiveSafeCells(),
-                        gameManager.getMomentumTierDescription()
-                );
-            }
-
-            switchTurn();
-        });
-
-        // activate: we pay open cost, apply random good/bad effect and lock this surprise
-        activateBtn.addActionListener(e -> {
-            dialog.dispose();
-
-            Board currentBoard = (playerNum == 1) ? board1 : board2;
-            Cell cell = currentBoard.getCell(row, col);
-
-            if (cell.isHidden()) {
-                cell.setState(CellState.REVEALED);
-                currentBoard.reveal(row, col);
-            }
-
-            cell.setSurprisePassed(false);
-            cell.setReadyForSurprise(true);
-            gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
-            
-            // Track momentum for surprise attempt (activating counts toward streak)
-            if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
-                gameManager.awardSafeCellWithMomentum();
-            }
+            currentBoard.reveal(row, col);
+        }
 
-            // Capture open cost before deducting it
-            int openCost = gameManager.getBaseOpenCost();
-            
-            gameManager.applyOpenCost();
-            boolean positive = Math.random() < 0.5;
-            
-            // Track surprise statistics
-            totalSurprisesTriggered++;
-            if (positive) {
-                totalPositiveSurprises++;
-            } else {
-                totalNegativeSurprises++;
-            }
-            
-            // Get the effect outcome before applying
-            int effectPoints = positive 
-                    ? gameManager.getGoodEffectPoints() 
-                    : gameManager.getBadEffectPoints();
-            
-            if (positive) gameManager.applyPositiveEffect();
-            else gameManager.applyNegativeEffect();
+        cell.setSurprisePassed(false);
+        cell.setReadyForSurprise(true);
+        gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
+        
+        // Track momentum for surprise attempt (activating counts toward streak)
+        if (gameManager.getDifficulty() == Board.Difficulty.EXTREME) {
+            gameManager.awardSafeCellWithMomentum();
+        }
 
-            // Play sound effect based on positive/negative surprise
-            if (positive) {
-                model.AudioManager.getInstance().playSoundEffect("good_effect.wav");
-            } else {
-                model.AudioManager.getInstance().playSoundEffect("bad_effect.wav");
-            }
+        // Capture open cost before deducting it
+        int openCost = gameManager.getBaseOpenCost();
+        
+        gameManager.applyOpenCost();
+        boolean positive = gameManager.rollSurprise();
+        
+        // Track surprise statistics
+        totalSurprisesTriggered++;
+        if (positive) {
+            totalPositiveSurprises++;
+        } else {
+            totalNegativeSurprises++;
+        }
+        
+        // Get the effect outcome before applying
+        int effectPoints = positive 
+                ? gameManager.getGoodEffectPoints() 
+                : gameManager.getBadEffectPoints();
+        
+        if (positive) gameManager.applyPositiveEffect();
+        else gameManager.applyNegativeEffect();
 
-            // Create result object with full breakdown (open cost + effect outcome)
-            int livesChange = positive ? 1 : -1;
-            String effectDesc = positive ? "Good Surprise! Gained effect" : "Bad Surprise! Negative effect";
-            GameManger.QuestionResult result = new GameManger.QuestionResult(
-                    positive,
-                    effectPoints, 
-                    livesChange, 
-                    openCost,
-                    effectDesc
-            );
-            
-            showQuestionAnswerMessage(result);
-            gameBoardView.updateScore(gameManager.getScore());
-            gameBoardView.updateLives(gameManager.getLives());
-            
-            // Check if game is over due to lives reaching 0
-            if (gameManager.getLives() <= 0) {
-                showLoseAnimation();
-                saveGameHistory(false);  // False = loss
-                quitToMenu();
-                return;
-            }
-            
-            gameBoardView.updateShopButtons(gameManager.getScore(), 
-                    gameManager.isSafetyNetActive(), 
-                    gameManager.isMetalDetectorActive(),
-                    gameManager.getSafetyNetPurchases(),
-                    gameManager.getMetalDetectorPurchases());
-            
-            // Update surprise cell display to show it was activated
-            gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
+        // Play sound effect based on positive/negative surprise
+        if (positive) {
+            model.AudioManager.getInstance().playSoundEffect("good_effect.wav");
+        } else {
+            model.AudioManager.getInstance().playSoundEffect("bad_effect.wav");
+        }
 
-            switchTurn();
-        });
+        // Create result object with full breakdown (open cost + effect outcome)
+        int livesChange = positive ? 1 : -1;
+        String effectDesc = positive ? "Good Surprise! Gained effect" : "Bad Surprise! Negative effect";
+        GameManger.QuestionResult result = new GameManger.QuestionResult(
+                positive,
+                effectPoints, 
+                livesChange, 
+                openCost,
+                effectDesc
+        );
+        
+        showQuestionAnswerMessage(result);
+        gameBoardView.updateScore(gameManager.getScore());
+        gameBoardView.updateLives(gameManager.getLives());
+        
+        // Check if game is over due to lives reaching 0
+        if (gameManager.getLives() <= 0) {
+            showLoseAnimation();
+            saveGameHistory(false);  // False = loss
+            quitToMenu();
+            return;
+        }
+        
+        gameBoardView.updateShopButtons(gameManager.getScore(), 
+                gameManager.isSafetyNetActive(), 
+                gameManager.isMetalDetectorActive(),
+                gameManager.getSafetyNetPurchases(),
+                gameManager.getMetalDetectorPurchases());
+        
+        // Update surprise cell display to show it was activated
+        gameBoardView.updateCell(playerNum, row, col, cell, cell.getDisplayLabel());
 
-        mainPanel.add(activateBtn);
-        mainPanel.add(Box.createVerticalStrut(10));
-        mainPanel.add(passBtn);
-        dialog.add(mainPanel);
-        dialog.setVisible(true);
+        switchTurn();
     }
     
     private void showStabilizerQuestion(int playerNum, int row, int col) {
@@ -790,96 +615,35 @@ public class GamePlayController {
         lastQuestionRow = row;
         lastQuestionCol = col;
         
-        // Show styled warning dialog first
-        JDialog dialog = new JDialog();
-        dialog.setTitle("Stabilizer Activated");
-        dialog.setModal(true);
-        dialog.setSize(500, 280);
-        dialog.setLocationRelativeTo(null);
-        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-        dialog.setResizable(false);
-        
-        // Handle X button click as incorrect answer
-        dialog.addWindowListener(new java.awt.event.WindowAdapter() {
-            @Override
-            public void windowClosing(java.awt.event.WindowEvent e) {
-                // Treat closing without answering as incorrect
-                if (isStabilizerMode) {
-                    isStabilizerMode = false;
-                    stabilizerMineRow = -1;
-                    stabilizerMineCol = -1;
-                    
-                    // Deduct a life (same as mine hit)
-                    gameManager.processMineHit();
-                    showStyledErrorDialog("Stabilizer Failed", "You closed the question without answering! You lost your last life. Game Over.", "/resources/bomb.png");
-                    
-                    // Update lives display
-                    gameBoardView.updateLives(gameManager.getLives());
-                    
-                    // Check if game is over
-                    if (gameManager.getLives() <= 0) {
-                        showLoseAnimation();
-                        saveGameHistory(false);
-                        quitToMenu();
-                        return;
+        // Show styled warning dialog first; closing it with X counts as a wrong answer
+        StyledDialog.showWarning("STABILIZER ACTIVATED",
+                "This is your LAST LIFE!<br><br>You must answer this HARD question<br>correctly or you will lose the game."
+                        + "<br><br>The mine will be disabled if<br>you answer correctly.",
+                "/resources/defibrillator.png", null, () -> {
+                    // Treat closing without answering as incorrect
+                    if (isStabilizerMode) {
+                        isStabilizerMode = false;
+                        stabilizerMineRow = -1;
+                        stabilizerMineCol = -1;
+                        
+                        // Deduct a life (same as mine hit)
+                        gameManager.processMineHit();
+                        showStyledErrorDialog("Stabilizer Failed", "You closed the question without answering! You lost your last life. Game Over.", "/resources/bomb.png");
+                        
+                        // Update lives display
+                        gameBoardView.updateLives(gameManager.getLives());
+                        
+                        // Check if game is over
+                        if (gameManager.getLives() <= 0) {
+                            showLoseAnimation();
+                            saveGameHistory(false);
+                            quitToMenu();
+                            return;
+                        }
+                        
+                        switchTurn();
                     }
-                    
-                    switchTurn();
-                }
-            }
-        });
-        
-        JPanel mainPanel = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                Color c1 = new Color(8, 45, 40);
-                Color c2 = new Color(5, 80, 60);
-                GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                g2.setPaint(gp);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-            }
-        };
-        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setBorder(BorderFactory.createEmptyBorder(20, 30, 20, 30));
-        
-        // Title with icon
-        JLabel titleLabel = new JLabel("STABILIZER ACTIVATED", SwingConstants.CENTER);
-        titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-        titleLabel.setForeground(new Color(255, 200, 0));
-        java.awt.image.BufferedImage warningIcon = model.ResourceLoader.loadImage("/resources/defibrillator.png");
-        if (warningIcon != null) {
-            Image scaledIcon = warningIcon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            titleLabel.setIcon(new ImageIcon(scaledIcon));
-            titleLabel.setIconTextGap(15);
-        }
-        titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(titleLabel);
-        mainPanel.add(Box.createVerticalStrut(20));
-        
-        // Message
-        JLabel messageLabel = new JLabel("<html><center>This is your LAST LIFE!<br><br>You must answer this HARD question<br>correctly or you will lose the game.<br><br>The mine will be disabled if<br>you answer correctly.</center></html>", SwingConstants.CENTER);
-        messageLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-        messageLabel.setForeground(Color.WHITE);
-        messageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        messageLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 120));
-        mainPanel.add(messageLabel);
-        mainPanel.add(Box.createVerticalStrut(20));
-        
-        // OK Button
-        JButton okBtn = new JButton("Understood");
-        okBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-        okBtn.setFont(new Font("Tahoma", Font.BOLD, 16));
-        okBtn.setBackground(new Color(200, 100, 0));
-        okBtn.setForeground(Color.WHITE);
-        okBtn.setFocusPainted(false);
-        okBtn.setBorder(BorderFactory.createLineBorder(new Color(255, 150, 0), 2));
-        okBtn.addActionListener(e -> dialog.dispose());
-        mainPanel.add(okBtn);
-        
-        dialog.add(mainPanel);
-        dialog.setVisible(true);
+                });
         
         // Automatically pick a hard question (difficulty 3)
         currentQuestionDifficulty = 3;
@@ -888,105 +652,29 @@ public class GamePlayController {
     }
     
     private void showQuestionDifficultyDialog(int playerNum) {
-        JDialog dialog = new JDialog();
-        dialog.setTitle("Select Question Difficulty");
-        dialog.setModal(true);
-        dialog.setSize(420, 360);
-        dialog.setLocationRelativeTo(null);
-        
-        JPanel mainPanel = new JPanel();
-        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setBackground(new Color(15, 25, 30));
-        mainPanel.setBorder(javax.swing.BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        
-        JLabel msg = new JLabel(
-                "<html>Select a difficulty for your question:<br>"
-                        + "Easy (1), Medium (2), Hard (3), or Advanced (4).</html>",
-                SwingConstants.CENTER
-        );
-        msg.setFont(new Font("Tahoma", Font.BOLD, 14));
-        msg.setForeground(new Color(100, 255, 100));
-        msg.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(msg);
-        mainPanel.add(Box.createVerticalStrut(20));
-
-        int remEasy = SysData.getRemainingQuestions(1);
-        int totEasy = SysData.getTotalQuestions(1);
-        int remMed = SysData.getRemainingQuestions(2);
-        int totMed = SysData.getTotalQuestions(2);
-        int remHard = SysData.getRemainingQuestions(3);
-        int totHard = SysData.getTotalQuestions(3);
-        int remAdv = SysData.getRemainingQuestions(4);
-        int totAdv = SysData.getTotalQuestions(4);
-
-        JButton easyBtn = new JButton("Easy  (" + remEasy + "/" + totEasy + ")");
-        JButton mediumBtn = new JButton("Medium  (" + remMed + "/" + totMed + ")");
-        JButton hardBtn = new JButton("Hard  (" + remHard + "/" + totHard + ")");
-        JButton advancedBtn = new JButton("Advanced  (" + remAdv + "/" + totAdv + ")");
-
-        easyBtn.setEnabled(remEasy > 0);
-        mediumBtn.setEnabled(remMed > 0);
-        hardBtn.setEnabled(remHard > 0);
-        advancedBtn.setEnabled(remAdv > 0);
-        
-        // Style buttons with green color and consistent dimensions
-        Color greenColor = new Color(50, 150, 100);
-        Color disabledColor = new Color(80, 100, 90);
-        for (JButton btn : new JButton[]{easyBtn, mediumBtn, hardBtn, advancedBtn}) {
-            btn.setFont(new Font("Tahoma", Font.BOLD, 13));
-            btn.setFocusPainted(false);
-            btn.setMaximumSize(new Dimension(350, 40));
-            btn.setPreferredSize(new Dimension(350, 40));
-            btn.setAlignmentX(Component.CENTER_ALIGNMENT);
-            btn.setHorizontalAlignment(SwingConstants.CENTER);
-            if (btn.isEnabled()) {
-                btn.setBackground(greenColor);
-                btn.setForeground(Color.WHITE);
-            } else {
-                btn.setBackground(disabledColor);
-                btn.setForeground(new Color(150, 150, 150));
-            }
+        QuestionSession questions = gameManager.getQuestionSession();
+        String[] names = {"Easy", "Medium", "Hard", "Advanced"};
+        ChoiceDialog dialog = ChoiceDialog.obtain(ChoiceDialog.Kind.QUESTION_DIFFICULTY);
+        ChoiceDialog.Choice[] choices = new ChoiceDialog.Choice[names.length];
+        for (int i = 0; i < names.length; i++) {
+            int difficulty = i + 1;
+            int remaining = questions.getRemainingQuestions(difficulty);
+            choices[i] = new ChoiceDialog.Choice(
+                    names[i] + "  (" + remaining + "/" + questions.getTotalQuestions(difficulty) + ")",
+                    ANSWER_COLOR, remaining > 0, () -> {
+                        currentQuestionDifficulty = difficulty;
+                        gameManager.setCurrentQuestionDifficulty(difficulty);
+                        dialog.close();
+                        openQuestionDialog(playerNum);
+                    });
         }
-
-        easyBtn.addActionListener(e -> {
-            currentQuestionDifficulty = 1;
-            gameManager.setCurrentQuestionDifficulty(1);
-            dialog.dispose();
-            openQuestionDialog(playerNum);
-        });
-        mediumBtn.addActionListener(e -> {
-            currentQuestionDifficulty = 2;
-            gameManager.setCurrentQuestionDifficulty(2);
-            dialog.dispose();
-            openQuestionDialog(playerNum);
-        });
-        hardBtn.addActionListener(e -> {
-            currentQuestionDifficulty = 3;
-            gameManager.setCurrentQuestionDifficulty(3);
-            dialog.dispose();
-            openQuestionDialog(playerNum);
-        });
-        advancedBtn.addActionListener(e -> {
-            currentQuestionDifficulty = 4;
-            gameManager.setCurrentQuestionDifficulty(4);
-            dialog.dispose();
-            openQuestionDialog(playerNum);
-        });
-
-        mainPanel.add(easyBtn);
-        mainPanel.add(Box.createVerticalStrut(10));
-        mainPanel.add(mediumBtn);
-        mainPanel.add(Box.createVerticalStrut(10));
-        mainPanel.add(hardBtn);
-        mainPanel.add(Box.createVerticalStrut(10));
-        mainPanel.add(advancedBtn);
-        
-        dialog.add(mainPanel);
-        dialog.setVisible(true);
+        dialog.display("Select Question Difficulty",
+                "Select a difficulty for your question:<br>Easy (1), Medium (2), Hard (3), or Advanced (4).",
+                CHOICE_HEADING_COLOR, null, null, choices);
     }
     
     private void openQuestionDialog(int playerNum) {
-        Questions q = SysData.getRandomQuestion(currentQuestionDifficulty);
+        Questions q = gameManager.nextQuestion(currentQuestionDifficulty);
         if (q == null) {
             JOptionPane.showMessageDialog(null,
                     "No questions left for this difficulty.",
@@ -996,60 +684,7 @@ public class GamePlayController {
             return;
         }
 
-        JDialog dialog = new JDialog();
-        dialog.setTitle("Question (Difficulty " + currentQuestionDifficulty + ")");
-        dialog.setModal(true);
-        dialog.setSize(800, 420);
-        dialog.setLocationRelativeTo(null);
-
-        JPanel mainPanel = new JPanel();
-        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setBackground(new Color(15, 25, 30));
-        mainPanel.setBorder(javax.swing.BorderFactory.createEmptyBorder(15, 20, 15, 20));
-
-        JLabel label = new JLabel("<html>" + q.getText() + "</html>", SwingConstants.CENTER);
-        label.setFont(new Font("Tahoma", Font.BOLD, 14));
-        label.setForeground(new Color(100, 255, 100));
-        label.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(label);
-        mainPanel.add(Box.createVerticalStrut(10));
-
-        JButton a = new JButton("A) " + q.getOptA());
-        JButton b = new JButton("B) " + q.getOptB());
-        JButton c = new JButton("C) " + q.getOptC());
-        JButton d = new JButton("D) " + q.getOptD());
-        
-        // Calculate the maximum width needed for any answer option
-        FontMetrics fm = a.getFontMetrics(new Font("Tahoma", Font.BOLD, 13));
-        int maxWidth = 350; // minimum default
-        String[] options = {a.getText(), b.getText(), c.getText(), d.getText()};
-        for (String option : options) {
-            int width = fm.stringWidth(option) + 30; // add padding
-            if (width > maxWidth) {
-                maxWidth = width;
-            }
-        }
-        
-        // Style all answer buttons consistently with calculated width
-        Color greenColor = new Color(50, 150, 100);
-        for (JButton btn : new JButton[]{a, b, c, d}) {
-            btn.setAlignmentX(Component.CENTER_ALIGNMENT);
-            btn.setFont(new Font("Tahoma", Font.BOLD, 13));
-            btn.setBackground(greenColor);
-            btn.setForeground(Color.WHITE);
-            btn.setFocusPainted(false);
-            btn.setHorizontalAlignment(SwingConstants.CENTER);
-            btn.setPreferredSize(new Dimension(maxWidth, 40));
-            btn.setMaximumSize(new Dimension(maxWidth, 40));
-        }
-
-        // Timer label for countdown
-        JLabel timerLabel = new JLabel("Time: 30");
-        timerLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-        timerLabel.setForeground(new Color(100, 255, 100));
-        timerLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(timerLabel);
-        mainPanel.add(Box.createVerticalStrut(8));
+        ChoiceDialog dialog = ChoiceDialog.obtain(ChoiceDialog.Kind.QUESTION);
 
         // Array to track if a button was clicked (to prevent multiple answers)
         final boolean[] answered = {false};
@@ -1058,7 +693,7 @@ public class GamePlayController {
         final int[] timeRemaining = {30};
         Timer questionTimer = new Timer(1000, e -> {
             timeRemaining[0]--;
-            timerLabel.setText("Time: " + timeRemaining[0]);
+            dialog.setStatus("Time: " + timeRemaining[0]);
 
             // When time runs out, auto-fail the question
             if (timeRemaining[0] <= 0) {
@@ -1075,63 +710,36 @@ public class GamePlayController {
                 }
             }
         });
-        questionTimer.start();
-
-        a.addActionListener(e -> {
-            if (!answered[0]) {
-                answered[0] = true;
-                questionTimer.stop();
-                handleQuestionAnswer(dialog, q.getCorrectAnswer().equalsIgnoreCase("A"));
-            }
-        });
-        b.addActionListener(e -> {
-            if (!answered[0]) {
-                answered[0] = true;
-                questionTimer.stop();
-                handleQuestionAnswer(dialog, q.getCorrectAnswer().equalsIgnoreCase("B"));
-            }
-        });
-        c.addActionListener(e -> {
-            if (!answered[0]) {
-                answered[0] = true;
-                questionTimer.stop();
-                handleQuestionAnswer(dialog, q.getCorrectAnswer().equalsIgnoreCase("C"));
-            }
-        });
-        d.addActionListener(e -> {
-            if (!answered[0]) {
-                answered[0] = true;
-                questionTimer.stop();
-                handleQuestionAnswer(dialog, q.getCorrectAnswer().equalsIgnoreCase("D"));
-            }
-        });
 
-        // Store timer reference so we can stop it when dialog closes
-        dialog.addWindowListener(new WindowAdapter() {
-            @Override
-            public void windowClosing(WindowEvent e) {
-                questionTimer.stop();
-                // If in stabilizer mode and haven't answered yet, treat close as incorrect
-                if (isStabilizerMode && !answered[0]) {
+        String[] letters = {"A", "B", "C", "D"};
+        String[] texts = {q.getOptA(), q.getOptB(), q.getOptC(), q.getOptD()};
+        ChoiceDialog.Choice[] choices = new ChoiceDialog.Choice[letters.length];
+        for (int i = 0; i < letters.length; i++) {
+            String letter = letters[i];
+            choices[i] = new ChoiceDialog.Choice(letter + ") " + texts[i], ANSWER_COLOR, () -> {
+                if (!answered[0]) {
                     answered[0] = true;
-                    handleQuestionAnswer(dialog, false);
+                    questionTimer.stop();
+                    handleQuestionAnswer(dialog, q.getCorrectAnswer().equalsIgnoreCase(letter));
                 }
+            });
+        }
+
+        // closing the window stops the timer; in stabilizer mode it also counts as a wrong answer
+        Runnable onClosed = () -> {
+            questionTimer.stop();
+            if (isStabilizerMode && !answered[0]) {
+                answered[0] = true;
+                handleQuestionAnswer(dialog, false);
             }
-        });
+        };
 
-        mainPanel.add(a);
-        mainPanel.add(Box.createVerticalStrut(5));
-        mainPanel.add(b);
-        mainPanel.add(Box.createVerticalStrut(5));
-        mainPanel.add(c);
-        mainPanel.add(Box.createVerticalStrut(5));
-        mainPanel.add(d);
-        
-        dialog.add(mainPanel);
-        dialog.setVisible(true);
+        questionTimer.start();
+        dialog.display("Question (Difficulty " + currentQuestionDifficulty + ")", q.getText(),
+                CHOICE_HEADING_COLOR, "Time: 30", onClosed, choices);
     }
     
-    private void handleQuestionAnswer(JDialog dialog, boolean isCorrect) {
+    private void handleQuestionAnswer(ChoiceDialog dialog, boolean isCorrect) {
         Board currentBoard = (lastQuestionPlayer == 1) ? board1 : board2;
         gameManager.setBoard(currentBoard);
         gameManager.setCurrentQuestionDifficulty(currentQuestionDifficulty);
@@ -1158,7 +766,7 @@ public class GamePlayController {
                 // Flag and disable the mine
                 Cell mineCell = currentBoard.getCell(stabilizerMineRow, stabilizerMineCol);
                 mineCell.setState(CellState.FLAGGED);
-                updateBoardDisplay(lastQuestionPlayer, currentBoard);
+                gameBoardView.updateCell(lastQuestionPlayer, stabilizerMineRow, stabilizerMineCol, mineCell, mineCell.getDisplayLabel());
                 gameBoardView.updateMinesLeft(lastQuestionPlayer, currentBoard.getHiddenMineCount());
             } else {
                 showStyledErrorDialog("Stabilizer Failed", "Incorrect! You lost your last life. Game Over.", "/resources/bomb.png");
@@ -1170,7 +778,7 @@ public class GamePlayController {
             // Check if game is over
             if (gameManager.getLives() <= 0) {
                 if (dialog != null) {
-                    dialog.dispose();
+                    dialog.close();
                 }
                 showLoseAnimation();
                 saveGameHistory(false);
@@ -1184,7 +792,7 @@ public class GamePlayController {
             stabilizerMineCol = -1;
             
             if (dialog != null) {
-                dialog.dispose();
+                dialog.close();
             }
             switchTurn();
             return;
@@ -1213,8 +821,8 @@ public class GamePlayController {
 
         showQuestionAnswerMessage(result);
 
-        if (!result.cellsRevealed.isEmpty()) {
-            updateBoardDisplay(lastQuestionPlayer, currentBoard);
+        if (!result.changedCells.isEmpty()) {
+            updateBoardDisplay(lastQuestionPlayer, currentBoard, result.changedCells);
         }
         
         // Track momentum for question attempt (answering counts toward streak)
@@ -1244,7 +852,7 @@ public class GamePlayController {
                 gameManager.getMetalDetectorPurchases());
 
         if (dialog != null) {
-            dialog.dispose();
+            dialog.close();
         }
 
         if (lastQuestionPlayer != -1 && lastQuestionRow != -1 && lastQuestionCol != -1) {
@@ -1263,175 +871,48 @@ public class GamePlayController {
     private void showQuestionAnswerMessage(GameManger.QuestionResult result) {
         // Determine if this is a surprise effect
         boolean isSurprise = result.effectDescription != null && result.effectDescription.contains("Surprise");
-        
-        // Create a custom styled dialog
-        JDialog dialog = new JDialog();
         String titleText = isSurprise ? 
             (result.isCorrect ? "Positive Effect" : "Negative Effect") :
             (result.isCorrect ? "Correct" : "Incorrect");
-        dialog.setTitle(titleText);
-        dialog.setModal(true);
-        dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-        dialog.setSize(500, 450);
-        dialog.setLocationRelativeTo(null);
-        
-        // Main panel with dark background
-        JPanel mainPanel = new JPanel();
-        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
-        mainPanel.setBackground(new Color(15, 25, 30));
-        mainPanel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        
-        // Title label - centered
-        JLabel titleLabel = new JLabel(titleText);
-        titleLabel.setFont(new Font("Tahoma", Font.BOLD, 24));
         Color titleColor = result.isCorrect ? new Color(100, 255, 100) : new Color(255, 100, 100);
-        titleLabel.setForeground(titleColor);
-        titleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        mainPanel.add(titleLabel);
-        mainPanel.add(Box.createVerticalStrut(10));
-        
-        // Add correct/incorrect icon image
-        try {
-            String iconName = result.isCorrect ? "/resources/correct.png" : "/resources/incorrect.png";
-            java.net.URL iconUrl = GamePlayController.class.getResource(iconName);
-            BufferedImage iconImg = null;
-            if (iconUrl != null) {
-                iconImg = ImageIO.read(iconUrl);
-            } else {
-                String iconPath = ResourceLoader.getResourcePath(iconName);
-                if (iconPath != null && !iconPath.isEmpty()) {
-                    iconImg = ImageIO.read(new File(iconPath));
-                }
-            }
-            
-            if (iconImg != null) {
-                Image scaledIcon = iconImg.getScaledInstance(60, 60, Image.SCALE_SMOOTH);
-                JLabel iconLabel = new JLabel(new ImageIcon(scaledIcon));
-                iconLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                mainPanel.add(iconLabel);
-                mainPanel.add(Box.createVerticalStrut(10));
-            }
-        } catch (Exception e) {
-            System.err.println("Could not load result icon: " + e.getMessage());
-        }
-        
-        mainPanel.add(Box.createVerticalStrut(5));
-        
-        // Content panel with scroll
-        JPanel contentPanel = new JPanel();
-        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
-        contentPanel.setOpaque(false);
-        
-        // Attempt Cost - centered
-        JLabel costLabel = new JLabel("Attempt Cost: -" + result.attemptCost + " points");
-        costLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-        costLabel.setForeground(new Color(255, 150, 100));
-        costLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        costLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 20));
-        costLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        contentPanel.add(costLabel);
-        contentPanel.add(Box.createVerticalStrut(10));
-        
-        // Attempt Outcome section - centered
-        JLabel outcomeLabel = new JLabel("Attempt Outcome:");
-        outcomeLabel.setFont(new Font("Tahoma", Font.BOLD, 13));
-        outcomeLabel.setForeground(new Color(180, 200, 255));
-        outcomeLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        outcomeLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 20));
-        outcomeLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        contentPanel.add(outcomeLabel);
-        
-        String outcomeText = "";
-        if (result.pointsChange >= 0) {
-            outcomeText += "+" + result.pointsChange + " points";
-        } else {
-            outcomeText += result.pointsChange + " points";
-        }
-        
-        if (result.livesChange > 0) {
-            outcomeText += " & +" + result.livesChange + " life";
-            if (result.livesChange > 1) outcomeText += "s";
-        } else if (result.livesChange < 0) {
-            outcomeText += " & " + result.livesChange + " life";
-            if (result.livesChange < -1) outcomeText += "s";
-        }
-        
+        String iconName = result.isCorrect ? "/resources/correct.png" : "/resources/incorrect.png";
+
+        String outcomeText = formatPointsAndLives(result.pointsChange, result.livesChange);
         if (result.effectDescription != null && !result.effectDescription.isEmpty()) {
-            outcomeText += "\n(" + result.effectDescription + ")";
+            outcomeText += " (" + result.effectDescription + ")";
         }
-        
-        JLabel outcomeValueLabel = new JLabel("<html><center>" + outcomeText.replace("\n", "<br>") + "</center></html>");
-        outcomeValueLabel.setFont(new Font("Tahoma", Font.PLAIN, 12));
-        outcomeValueLabel.setForeground(new Color(200, 255, 200));
-        outcomeValueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        outcomeValueLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 60));
-        outcomeValueLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        contentPanel.add(outcomeValueLabel);
-        contentPanel.add(Box.createVerticalStrut(15));
-        
-        // Overall Result section - centered
-        JLabel overallLabel = new JLabel("Overall Result:");
-        overallLabel.setFont(new Font("Tahoma", Font.BOLD, 13));
-        overallLabel.setForeground(new Color(180, 200, 255));
-        overallLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        overallLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 20));
-        overallLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        contentPanel.add(overallLabel);
-        
         int overallPoints = result.pointsChange - result.attemptCost;
-        String overallText = "";
-        if (overallPoints >= 0) {
-            overallText += "+" + overallPoints + " points";
-        } else {
-            overallText += overallPoints + " points";
+        String message = "Attempt Cost: -" + result.attemptCost + " points\n"
+                + "Attempt Outcome: " + outcomeText + "\n"
+                + "Overall Result: " + formatPointsAndLives(overallPoints, result.livesChange);
+
+        // no lives left: the game ends (and its window closes) right after this, which would take
+        // a toast with it, so the final outcome is shown modally instead
+        if (gameManager.getLives() <= 0) {
+            String html = message.replace("\n", "<br>");
+            if (result.isCorrect) {
+                showStyledSuccessDialog(titleText, html, iconName);
+            } else {
+                showStyledErrorDialog(titleText, html, iconName);
+            }
+            return;
         }
-        
-        if (result.livesChange > 0) {
-            overallText += " & +" + result.livesChange + " life";
-            if (result.livesChange > 1) overallText += "s";
-        } else if (result.livesChange < 0) {
-            overallText += " & " + result.livesChange + " life";
-            if (result.livesChange < -1) overallText += "s";
+
+        // shown over the board without blocking, so the next move can be played right away
+        gameBoardView.showNotification(titleText, message, titleColor, iconName);
+    }
+
+    // e.g. "+5 points & -1 life"
+    private static String formatPointsAndLives(int points, int lives) {
+        String text = (points >= 0 ? "+" : "") + points + " points";
+        if (lives > 0) {
+            text += " & +" + lives + " life";
+            if (lives > 1) text += "s";
+        } else if (lives < 0) {
+            text += " & " + lives + " life";
+            if (lives < -1) text += "s";
         }
-        
-        Color overallColor = result.isCorrect ? new Color(100, 255, 100) : new Color(255, 120, 120);
-        
-        JLabel overallValueLabel = new JLabel("<html><center>" + overallText.replace("\n", "<br>") + "</center></html>");
-        overallValueLabel.setFont(new Font("Tahoma", Font.BOLD, 13));
-        overallValueLabel.setForeground(overallColor);
-        overallValueLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        overallValueLabel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 60));
-        overallValueLabel.setHorizontalAlignment(SwingConstants.CENTER);
-        contentPanel.add(overallValueLabel);
-        
-        // Add scrollable content
-        JScrollPane scrollPane = new JScrollPane(contentPanel);
-        scrollPane.setOpaque(false);
-        scrollPane.getViewport().setOpaque(false);
-        scrollPane.setBorder(null);
-        scrollPane.getVerticalScrollBar().setUI(new javax.swing.plaf.basic.BasicScrollBarUI() {
-            @Override
-            protected void configureScrollBarColors() {
-                this.thumbColor = new Color(100, 150, 120);
-            }
-        });
-        mainPanel.add(scrollPane);
-        mainPanel.add(Box.createVerticalStrut(15));
-        
-        // OK button
-        JButton okBtn = new JButton("OK");
-        okBtn.setAlignmentX(Component.CENTER_ALIGNMENT);
-        okBtn.setFont(new Font("Tahoma", Font.BOLD, 13));
-        okBtn.setBackground(new Color(0, 150, 120));
-        okBtn.setForeground(Color.WHITE);
-        okBtn.setFocusPainted(false);
-        okBtn.setPreferredSize(new Dimension(100, 35));
-        okBtn.setMaximumSize(new Dimension(100, 35));
-        okBtn.addActionListener(e -> dialog.dispose());
-        mainPanel.add(okBtn);
-        
-        dialog.add(mainPanel);
-        dialog.setVisible(true);
+        return text;
     }
     
     private void handleSafetyNetPurchase() {
@@ -1507,76 +988,16 @@ public class GamePlayController {
             gameBoardView.pauseTimer();
         }
         
-        JDialog dialog = new JDialog();
-        dialog.setTitle("Game Paused");
-        dialog.setModal(true);
-        dialog.setSize(400, 250);
-        dialog.setLocationRelativeTo(null);
-        dialog.setResizable(false);
-        
-        // Background with gradient
-        JPanel bg = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                Color c1 = new Color(8, 45, 40);
-                Color c2 = new Color(5, 80, 60);
-                GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                g2.setPaint(gp);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-            }
-        };
-        bg.setLayout(new BorderLayout(10, 10));
-        bg.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        dialog.setContentPane(bg);
-        
-        // Title
-        JLabel title = new JLabel("Game Paused", SwingConstants.CENTER);
-        title.setForeground(new Color(255, 200, 100));
-        title.setFont(new Font("Tahoma", Font.BOLD, 24));
-        
-        // Try to load pause icon
-        java.awt.image.BufferedImage pauseIcon = model.ResourceLoader.loadImage("/resources/pause-button.png");
-        if (pauseIcon != null) {
-            Image scaledIcon = pauseIcon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            title.setIcon(new ImageIcon(scaledIcon));
-            title.setIconTextGap(10);
-        }
-        bg.add(title, BorderLayout.NORTH);
-        
-        // Message
-        JLabel msg = new JLabel("<html><center>Game is paused. Choose an action to continue.</center></html>");
-        msg.setFont(new Font("Tahoma", Font.PLAIN, 14));
-        msg.setForeground(Color.WHITE);
-        bg.add(msg, BorderLayout.CENTER);
-        
-        // Buttons
-        JPanel btnPanel = new JPanel();
-        btnPanel.setOpaque(false);
-        btnPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 15, 0));
-        
-        JButton resumeBtn = new JButton("Resume");
-        resumeBtn.setFont(new Font("Tahoma", Font.BOLD, 13));
-        resumeBtn.setBackground(new Color(50, 150, 100));
-        resumeBtn.setForeground(Color.WHITE);
-        resumeBtn.setFocusPainted(false);
-        resumeBtn.setBorder(BorderFactory.createLineBorder(new Color(100, 200, 150), 2));
-        resumeBtn.setPreferredSize(new Dimension(100, 35));
-        resumeBtn.addActionListener(e -> {
-            dialog.dispose();
-            if (gameBoardView != null) {
-                gameBoardView.resumeTimer();
-            }
-        });
-        
-        btnPanel.add(resumeBtn);
-        bg.add(btnPanel, BorderLayout.SOUTH);
-        
-        dialog.setVisible(true);
+        StyledDialog.showPause("Game Paused", "Game is paused. Choose an action to continue.",
+                "/resources/pause-button.png", () -> {
+                    if (gameBoardView != null) {
+                        gameBoardView.resumeTimer();
+                    }
+                });
     }
     
     public void quitToMenu() {
+        if (gameManager != null) gameManager.releaseProbabilityEngines();
         if (gameBoardView != null) gameBoardView.close();
         flowController.returnToMainMenu();
     }
@@ -1632,15 +1053,8 @@ public class GamePlayController {
     }
     
     private boolean isBoardComplete(Board board) {
-        for (int r = 0; r < board.getRows(); r++) {
-            for (int c = 0; c < board.getCols(); c++) {
-                Cell cell = board.getCell(r, c);
-                if (!cell.isMine() && !cell.isRevealed()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        // all non-mine cells revealed - tracked by the board on every reveal
+        return board.getRemainingSafeCells() == 0;
     }
     
     /**
@@ -1717,188 +1131,14 @@ public class GamePlayController {
     }
     
     private void showStyledSuccessDialog(String title, String message, String iconPath, Runnable onOkClicked) {
-        JDialog dialog = new JDialog();
-        dialog.setTitle(title);
-        dialog.setModal(true);
-        dialog.setSize(450, 220);
-        dialog.setLocationRelativeTo(null);
-        dialog.setResizable(false);
-        
-        JPanel bg = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                Color c1 = new Color(8, 45, 40);
-                Color c2 = new Color(5, 80, 60);
-                GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                g2.setPaint(gp);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-            }
-        };
-        bg.setLayout(new BorderLayout(10, 10));
-        bg.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        dialog.setContentPane(bg);
-        
-        JLabel titleLabel = new JLabel(title, SwingConstants.CENTER);
-        titleLabel.setForeground(new Color(50, 200, 100));
-        titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-        
-        // Try to load and display icon
-        java.awt.image.BufferedImage icon = model.ResourceLoader.loadImage(iconPath);
-        if (icon != null) {
-            Image scaledIcon = icon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            titleLabel.setIcon(new ImageIcon(scaledIcon));
-            titleLabel.setIconTextGap(10);
-        }
-        bg.add(titleLabel, BorderLayout.NORTH);
-        
-        JLabel msgLabel = new JLabel("<html>" + message + "</html>", SwingConstants.CENTER);
-        msgLabel.setForeground(Color.WHITE);
-        msgLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-        bg.add(msgLabel, BorderLayout.CENTER);
-        
-        JPanel btnPanel = new JPanel();
-        btnPanel.setOpaque(false);
-        JButton okBtn = new JButton("OK");
-        okBtn.setFont(new Font("Tahoma", Font.BOLD, 12));
-        okBtn.setBackground(new Color(50, 150, 100));
-        okBtn.setForeground(Color.WHITE);
-        okBtn.setFocusPainted(false);
-        okBtn.setBorder(BorderFactory.createLineBorder(new Color(100, 200, 150), 2));
-        okBtn.setPreferredSize(new Dimension(90, 35));
-        okBtn.addActionListener(e -> {
-            dialog.dispose();
-            if (onOkClicked != null) {
-                onOkClicked.run();
-            }
-        });
-        btnPanel.add(okBtn);
-        bg.add(btnPanel, BorderLayout.SOUTH);
-        
-        dialog.setVisible(true);
+        StyledDialog.showSuccess(title, message, iconPath, onOkClicked);
     }
     
     /**
      * Display a styled error dialog with custom text and icon
      */
     private void showStyledErrorDialog(String title, String message, String iconPath) {
-        JDialog dialog = new JDialog();
-        dialog.setTitle(title);
-        dialog.setModal(true);
-        dialog.setSize(450, 220);
-        dialog.setLocationRelativeTo(null);
-        dialog.setResizable(false);
-        
-        JPanel bg = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                Color c1 = new Color(8, 45, 40);
-                Color c2 = new Color(5, 80, 60);
-                GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                g2.setPaint(gp);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-            }
-        };
-        bg.setLayout(new BorderLayout(10, 10));
-        bg.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        dialog.setContentPane(bg);
-        
-        JLabel titleLabel = new JLabel(title, SwingConstants.CENTER);
-        titleLabel.setForeground(new Color(255, 100, 100));
-        titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-        
-        // Try to load and display icon
-        java.awt.image.BufferedImage icon = model.ResourceLoader.loadImage(iconPath);
-        if (icon != null) {
-            Image scaledIcon = icon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            titleLabel.setIcon(new ImageIcon(scaledIcon));
-            titleLabel.setIconTextGap(10);
-        }
-        bg.add(titleLabel, BorderLayout.NORTH);
-        
-        JLabel msgLabel = new JLabel("<html>" + message + "</html>", SwingConstants.CENTER);
-        msgLabel.setForeground(Color.WHITE);
-        msgLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-        bg.add(msgLabel, BorderLayout.CENTER);
-        
-        JPanel btnPanel = new JPanel();
-        btnPanel.setOpaque(false);
-        JButton okBtn = new JButton("OK");
-        okBtn.setFont(new Font("Tahoma", Font.BOLD, 12));
-        okBtn.setBackground(new Color(180, 50, 50));
-        okBtn.setForeground(Color.WHITE);
-        okBtn.setFocusPainted(false);
-        okBtn.setBorder(BorderFactory.createLineBorder(new Color(255, 100, 100), 2));
-        okBtn.setPreferredSize(new Dimension(90, 35));
-        okBtn.addActionListener(e -> dialog.dispose());
-        btnPanel.add(okBtn);
-        bg.add(btnPanel, BorderLayout.SOUTH);
-        
-        dialog.setVisible(true);
-    }
-    
-    /**
-     * Display a styled info dialog with custom color and icon
-     */
-    private void showStyledInfoDialog(String title, String message, Color titleColor, String iconPath) {
-        JDialog dialog = new JDialog();
-        dialog.setTitle(title);
-        dialog.setModal(true);
-        dialog.setSize(450, 220);
-        dialog.setLocationRelativeTo(null);
-        dialog.setResizable(false);
-        
-        JPanel bg = new JPanel() {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2 = (Graphics2D) g;
-                Color c1 = new Color(8, 45, 40);
-                Color c2 = new Color(5, 80, 60);
-                GradientPaint gp = new GradientPaint(0, 0, c1, getWidth(), getHeight(), c2);
-                g2.setPaint(gp);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-            }
-        };
-        bg.setLayout(new BorderLayout(10, 10));
-        bg.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
-        dialog.setContentPane(bg);
-        
-        JLabel titleLabel = new JLabel(title, SwingConstants.CENTER);
-        titleLabel.setForeground(titleColor);
-        titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
-        
-        // Try to load and display icon
-        java.awt.image.BufferedImage icon = model.ResourceLoader.loadImage(iconPath);
-        if (icon != null) {
-            Image scaledIcon = icon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            titleLabel.setIcon(new ImageIcon(scaledIcon));
-            titleLabel.setIconTextGap(10);
-        }
-        bg.add(titleLabel, BorderLayout.NORTH);
-        
-        JLabel msgLabel = new JLabel("<html>" + message + "</html>", SwingConstants.CENTER);
-        msgLabel.setForeground(Color.WHITE);
-        msgLabel.setFont(new Font("Tahoma", Font.PLAIN, 13));
-        bg.add(msgLabel, BorderLayout.CENTER);
-        
-        JPanel btnPanel = new JPanel();
-        btnPanel.setOpaque(false);
-        JButton okBtn = new JButton("OK");
-        okBtn.setFont(new Font("Tahoma", Font.BOLD, 12));
-        okBtn.setBackground(titleColor);
-        okBtn.setForeground(Color.WHITE);
-        okBtn.setFocusPainted(false);
-        okBtn.setBorder(BorderFactory.createLineBorder(titleColor.brighter(), 2));
-        okBtn.setPreferredSize(new Dimension(90, 35));
-        okBtn.addActionListener(e -> dialog.dispose());
-        btnPanel.add(okBtn);
-        bg.add(btnPanel, BorderLayout.SOUTH);
-        
-        dialog.setVisible(true);
+        StyledDialog.showError(title, message, iconPath);
     }
 }
 
@@ -3,6 +3,7 @@ package controller;
 import java.awt.*;
 import javax.swing.*;
 import model.Board;
+import model.IconCache;
 import view.GameSetup;
 
 public class SetupController implements IGameSetupController {
@@ -91,10 +92,9 @@ public class SetupController implements IGameSetupController {
         titleLabel.setFont(new Font("Tahoma", Font.BOLD, 20));
         
         // Try to load and display icon
-        java.awt.image.BufferedImage icon = model.ResourceLoader.loadImage(iconPath);
+        ImageIcon icon = IconCache.get(iconPath, 32, 32);
         if (icon != null) {
-            Image scaledIcon = icon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-            titleLabel.setIcon(new ImageIcon(scaledIcon));
+            titleLabel.setIcon(icon);
             titleLabel.setIconTextGap(10);
         }
         bg.add(titleLabel, BorderLayout.NORTH);
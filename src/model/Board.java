@@ -1,10 +1,18 @@
 package model;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Board class representing the game board with cells, mines, and special cells.
- * Uses CellFactory for creating cells with the Factory design pattern.
+ * Cell data is stored in packed bitsets (one bit per cell, index = row * cols + col)
+ * plus one byte per cell for the neighbor count, so a board costs a few bits per cell
+ * instead of one heap object per cell. {@link #getCell(int, int)} hands out lightweight
+ * Cell views (made by CellFactory) that read and write straight through to these arrays.
+ * The layout is fully determined by the seed: the same size, counts and seed always give
+ * the same board, so any game can be regenerated for replays or daily challenges. The one
+ * exception is a board whose mines were moved after layout (NoGuessGenerator repairs), see
+ * {@link #isReproducible()}.
  */
 public class Board {
 
@@ -15,189 +23,344 @@ public class Board {
         EXTREME
     }
 
+    // largest board we accept: cell indices must fit in an int
+    public static final long MAX_CELLS = Integer.MAX_VALUE - 64L;
+
     private final Difficulty difficulty;
+    private final long seed;
     private int rows;
     private int cols;
     private int totalMines;
-    private final Cell[][] cells;
+    private int questionCells;
+    private int surpriseCells;
+
+    // cell type bits (a cell with none of these set is NUMBER or EMPTY, depending on its count)
+    private long[] mineBits;
+    private long[] questionBits;
+    private long[] surpriseBits;
+
+    // cell state bits (a cell with neither set is HIDDEN)
+    private long[] revealedBits;
+    private long[] flaggedBits;
+
+    // question / surprise UI flags, see the matching fields documented in Cell.
+    // only a handful of cells ever use these, so each bitset is allocated the first time it's set
+    private long[] readyForQuestionBits;
+    private long[] readyForSurpriseBits;
+    private long[] questionAttemptedBits;
+    private long[] surprisePassedBits;
+
+    // 0-8 mines around each non-mine, non-special cell
+    private byte[] neighborCounts;
+
+    // neighbor index offsets for this board size (shared with every board of the same size)
+    private NeighborTable neighbors;
+
+    // running totals, kept in step with every state change so the ui queries are O(1)
+    private int hiddenCells;        // neither revealed nor flagged
+    private int hiddenMines;        // mines that are neither revealed nor flagged
+    private int flaggedCells;       // flagged (and not revealed)
+    private int revealedSafeCells;  // revealed non-mine cells
+    private int remainingSafeCells; // non-mine cells not revealed yet (win when this hits 0)
+
+    // cells changed by the public operation in progress (reveal / toggleFlag), null otherwise
+    private BoardDelta changes;
+
+    // flood-fill work queue (ring buffer, power-of-two length), reused by every cascade
+    private int[] fillQueue = new int[64];
+
+    // no-guess boards (see NoGuessGenerator): the cell to open first, -1 when there is none
+    private int safeStartIndex = -1;
+    private boolean noGuess;
+    private boolean minesMoved; // moveMine was used: the seed alone no longer gives this layout
 
     public Board(Difficulty difficulty) {
+        this(difficulty, newSeed());
+    }
+
+    /**
+     * Regular board for the difficulty, laid out from the given seed.
+     */
+    public Board(Difficulty difficulty, long seed) {
         this.difficulty = difficulty;
-        configureDifficulty(difficulty); // set board size + mine count by difficulty
-        cells = new Cell[rows][cols];
+        this.seed = seed;
+        configureDifficulty(difficulty); // set board size + mine/special counts by difficulty
+        generate();
+    }
+
+    /**
+     * Custom board with explicit size and cell counts. The difficulty only decides the game
+     * rules (scoring, lives) - the layout comes entirely from the other arguments.
+     *
+     * @param difficulty rules to play this board with
+     * @param rows number of rows (at least 1)
+     * @param cols number of columns (at least 1)
+     * @param totalMines mines to place, at most rows * cols
+     * @param questionCells question cells to place (best effort, see placeSpecialCells)
+     * @param surpriseCells surprise cells to place (best effort, see placeSpecialCells)
+     */
+    public Board(Difficulty difficulty, int rows, int cols, int totalMines, int questionCells, int surpriseCells) {
+        this(difficulty, rows, cols, totalMines, questionCells, surpriseCells, newSeed());
+    }
+
+    /**
+     * Custom board laid out from the given seed, see the constructor above for the arguments.
+     */
+    public Board(Difficulty difficulty, int rows, int cols, int totalMines, int questionCells, int surpriseCells,
+                 long seed) {
+        if (rows < 1 || cols < 1 || (long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("Unsupported board size " + rows + "x" + cols);
+        }
+        if (totalMines < 0 || totalMines > rows * cols) {
+            throw new IllegalArgumentException("Cannot place " + totalMines + " mines on a "
+                    + rows + "x" + cols + " board");
+        }
+        if (questionCells < 0 || surpriseCells < 0) {
+            throw new IllegalArgumentException("Special cell counts must not be negative");
+        }
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.rows = rows;
+        this.cols = cols;
+        this.totalMines = totalMines;
+        this.questionCells = questionCells;
+        this.surpriseCells = surpriseCells;
+        generate();
+    }
+
+    /**
+     * Custom-size board whose mine, question and surprise counts are scaled from the
+     * difficulty's regular board, so the density (and feel) of that difficulty is kept.
+     */
+    public static Board withSize(Difficulty difficulty, int rows, int cols) {
+        return withSize(difficulty, rows, cols, newSeed());
+    }
+
+    /**
+     * Same as {@link #withSize(Difficulty, int, int)}, laid out from the given seed.
+     */
+    public static Board withSize(Difficulty difficulty, int rows, int cols, long seed) {
+        int[] preset = presetFor(difficulty);
+        double scale = (double) rows * cols / (preset[0] * preset[1]);
+        int mines = (int) Math.min((long) rows * cols, Math.round(preset[2] * scale));
+        int questions = (int) Math.round(preset[3] * scale);
+        int surprises = (int) Math.round(preset[4] * scale);
+        return new Board(difficulty, rows, cols, mines, questions, surprises, seed);
+    }
+
+    // fresh seed for boards nobody asked to reproduce
+    private static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    private void generate() {
+        // one split stream per step, so changing how many draws one step makes
+        // never shifts the layout the other step produces for the same seed
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom mineRandom = root.split();
+        SplittableRandom specialRandom = root.split();
 
         initEmptyBoard();      // start with all EMPTY cells
-        placeMinesRandomly();  // drop mines on random cells
-        placeSpecialCells();   // add questions + surprises on empty cells (respect 3x3 no-mine rule)
-        calculateNumbers();    // set number values around mines
+        if ((long) rows * cols >= ParallelGeneration.MIN_CELLS) {
+            // giant board: same steps, split into bands on the fork/join pool
+            ParallelGeneration.placeMines(mineBits, rows * cols, totalMines, mineRandom.nextLong());
+            ParallelGeneration.calculateNumbers(this, rows);
+            ParallelGeneration.placeSpecials(mineBits, neighborCounts, questionBits, surpriseBits,
+                    questionCells, surpriseCells, specialRandom.nextLong());
+        } else {
+            int[] scratch = placeMinesRandomly(mineRandom);  // drop mines on random cells
+            calculateNumbers();    // set number values around mines
+            placeSpecialCells(scratch, specialRandom); // add questions + surprises on cells with no mine in their 3x3 area
+        }
+        initCounters();        // everything starts hidden
+    }
+
+    // {rows, cols, mines, questions, surprises} of the regular board for each difficulty
+    static int[] presetFor(Difficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> new int[]{9, 9, 10, 6, 2};
+            case MEDIUM -> new int[]{13, 13, 26, 7, 3};
+            case HARD -> new int[]{16, 16, 44, 11, 4};
+            case EXTREME -> new int[]{13, 13, 30, 11, 4};
+        };
     }
 
     private void configureDifficulty(Difficulty difficulty) {
-        // here we decide how big the board is and how many mines for each level
-        switch (difficulty) {
-            case EASY -> {
-                rows = 9;
-                cols = 9;
-                totalMines = 10;
-            }
-            case MEDIUM -> {
-                rows = 13;
-                cols = 13;
-                totalMines = 26;
-            }
-            case HARD -> {
-                rows = 16;
-                cols = 16;
-                totalMines = 44;
-            }
-            case EXTREME -> {
-                rows = 13;
-                cols = 13;
-                totalMines = 30;
-            }
-        }
+        // here we decide how big the board is and how many mines / specials for each level
+        int[] preset = presetFor(difficulty);
+        rows = preset[0];
+        cols = preset[1];
+        totalMines = preset[2];
+        questionCells = preset[3];
+        surpriseCells = preset[4];
     }
 
     private void initEmptyBoard() {
-        // factory pattern - all cells created same way through factory
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                cells[r][c] = CellFactory.createCell(Cell.CellType.EMPTY, r, c);
-            }
-        }
+        // all bits cleared = every cell EMPTY and HIDDEN
+        int cellCount = rows * cols;
+        int words = (cellCount + 63) >>> 6;
+        mineBits = new long[words];
+        questionBits = new long[words];
+        surpriseBits = new long[words];
+        revealedBits = new long[words];
+        flaggedBits = new long[words];
+        neighborCounts = new byte[cellCount];
+        neighbors = NeighborTable.forSize(rows, cols);
     }
 
-    private void placeMinesRandomly() {
-        // randomly place the exact number of mines, skip cells that already have one
-        Random random = new Random();
-        int count = 0;
+    private void initCounters() {
+        int mines = 0;
+        for (long word : mineBits) {
+            mines += Long.bitCount(word);
+        }
+        hiddenCells = rows * cols;
+        hiddenMines = mines;
+        flaggedCells = 0;
+        revealedSafeCells = 0;
+        remainingSafeCells = rows * cols - mines;
+    }
 
-        while (count < totalMines) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
+    /**
+     * Picks exactly totalMines distinct cells with a partial Fisher-Yates shuffle over all
+     * cell indices: one random draw per mine, no retries, so the cost doesn't grow with the
+     * mine density. Returns the index array so placeSpecialCells can reuse it as scratch.
+     */
+    private int[] placeMinesRandomly(SplittableRandom random) {
+        int cellCount = rows * cols;
+        int[] indices = new int[cellCount];
+        for (int i = 0; i < cellCount; i++) {
+            indices[i] = i;
+        }
 
-            if (!cells[r][c].isMine()) {
-                cells[r][c] = CellFactory.createCell(Cell.CellType.MINE, r, c);
-                count++;
-            }
+        for (int i = 0; i < totalMines; i++) {
+            int j = i + random.nextInt(cellCount - i);
+            int picked = indices[j];
+            indices[j] = indices[i];
+            indices[i] = picked;
+            setBit(mineBits, picked, true);
         }
+        return indices;
     }
 
     /**
-     * Helper: can we place a special cell (Q/S) at (row, col)?
+     * Places question and surprise cells.
      * Rules:
      * - Cell must currently be EMPTY.
-     * - The entire 3x3 area centered on (row, col) must contain NO mines.
+     * - The entire 3x3 area centered on the cell must contain NO mines.
      * - Q and S are allowed next to each other.
+     * Runs after calculateNumbers, so "no mine in the 3x3 area" is simply a non-mine cell
+     * with a count of 0. We collect every such cell once and draw the specials from that
+     * candidate list with a partial Fisher-Yates shuffle. If there are fewer candidates than
+     * requested specials, we place as many as fit (questions first).
      */
-    private boolean canPlaceSpecialAt(int row, int col) {
-        // must be exactly EMPTY (no number, no special, no mine)
-        if (cells[row][col].getType() != Cell.CellType.EMPTY) {
-            return false;
-        }
-
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                int nr = row + dr;
-                int nc = col + dc;
-                if (!isInside(nr, nc)) {
-                    continue;
-                }
-                if (cells[nr][nc].isMine()) {
-                    return false; // disallow any mine in the 3x3 area
-                }
+    private void placeSpecialCells(int[] scratch, SplittableRandom random) {
+        int cellCount = rows * cols;
+
+        // collect candidates into the scratch array left over from mine placement
+        int[] candidates = scratch;
+        int candidateCount = 0;
+        for (int index = 0; index < cellCount; index++) {
+            if (neighborCounts[index] == 0 && !testBit(mineBits, index)) {
+                candidates[candidateCount++] = index;
             }
         }
-        return true;
-    }
 
-    private void placeSpecialCells() {
-        // place question and surprise cells on EMPTY cells that have no mines in their 3x3 area
-        Random random = new Random();
-        int questionCells = 0;
-        int surpriseCells = 0;
+        int wanted = (int) Math.min(candidateCount, (long) questionCells + surpriseCells);
+        for (int i = 0; i < wanted; i++) {
+            int j = i + random.nextInt(candidateCount - i);
+            int picked = candidates[j];
+            candidates[j] = candidates[i];
+            candidates[i] = picked;
 
-        // how many specials we want for each game difficulty
-        switch (difficulty) {
-            case EASY -> {
-                questionCells = 6;
-                surpriseCells = 2;
-            }
-            case MEDIUM -> {
-                questionCells = 7;
-                surpriseCells = 3;
-            }
-            case HARD -> {
-                questionCells = 11;
-                surpriseCells = 4;
-            }
-            case EXTREME -> {
-                questionCells = 11;
-                surpriseCells = 4;
+            // Q/S are allowed next to each other; only the 3x3 no-mine rule matters.
+            if (i < questionCells) {
+                setBit(questionBits, picked, true);
+            } else {
+                setBit(surpriseBits, picked, true);
             }
         }
+    }
 
-        // safety cap to avoid infinite loops on very constrained boards
-        int maxAttempts = rows * cols * 10;
-
-        // place question cells
-        int qCount = 0;
-        int attempts = 0;
-        while (qCount < questionCells && attempts < maxAttempts) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            attempts++;
+    /**
+     * Sets every cell's count in one pass over the mine bitmap, row by row: each row's mines
+     * are unpacked to 0/1 bytes, summed horizontally (left + self + right), and a cell's count
+     * is the sum of the horizontal sums of the rows above, at and below it, minus itself.
+     * Three rolling rows of plain byte-array adds, no per-neighbor lookups or bounds checks -
+     * loops of this shape are compiled to SIMD instructions by the JIT.
+     * Mines get 0; specials are placed after this runs and only on count-0 cells.
+     */
+    private void calculateNumbers() {
+        calculateNumbers(0, rows);
+    }
 
-            if (canPlaceSpecialAt(r, c)) {
-                cells[r][c].setType(Cell.CellType.QUESTION);
-                qCount++;
-            }
+    // same as above for rows [fromRow, toRow) only; bands of rows can run in parallel
+    void calculateNumbers(int fromRow, int toRow) {
+        byte[] minesAbove = new byte[cols];
+        byte[] minesHere = new byte[cols];
+        byte[] minesBelow = new byte[cols];
+        byte[] sumsAbove = new byte[cols];
+        byte[] sumsHere = new byte[cols];
+        byte[] sumsBelow = new byte[cols];
+
+        if (fromRow > 0) {
+            loadMineRow(fromRow - 1, minesAbove);
+            sumRow(minesAbove, sumsAbove);
         }
+        if (fromRow < toRow) {
+            loadMineRow(fromRow, minesHere);
+            sumRow(minesHere, sumsHere);
+        }
+        for (int r = fromRow; r < toRow; r++) {
+            // next row, or zeros past the bottom edge
+            if (r + 1 < rows) {
+                loadMineRow(r + 1, minesBelow);
+                sumRow(minesBelow, sumsBelow);
+            } else {
+                Arrays.fill(sumsBelow, (byte) 0);
+            }
 
-        // place surprise cells
-        int sCount = 0;
-        attempts = 0;
-        while (sCount < surpriseCells && attempts < maxAttempts) {
-            int r = random.nextInt(rows);
-            int c = random.nextInt(cols);
-            attempts++;
-
-            // Q/S are allowed next to each other; only the 3x3 no-mine rule matters.
-            if (canPlaceSpecialAt(r, c)) {
-                cells[r][c].setType(Cell.CellType.SURPRISE);
-                sCount++;
+            int base = r * cols;
+            for (int c = 0; c < cols; c++) {
+                // (mine - 1) is 0 for a mine and all ones otherwise, so mines come out as 0
+                neighborCounts[base + c] = (byte) ((sumsAbove[c] + sumsHere[c] + sumsBelow[c] - minesHere[c])
+                        & (minesHere[c] - 1));
             }
+
+            // roll the window down one row
+            byte[] t = minesAbove; minesAbove = minesHere; minesHere = minesBelow; minesBelow = t;
+            t = sumsAbove; sumsAbove = sumsHere; sumsHere = sumsBelow; sumsBelow = t;
         }
     }
 
-    private void calculateNumbers() {
-        // go over all non-mine / non-special cells and count how many mines around them
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].isMine()
-                        || cells[r][c].isQuestion()
-                        || cells[r][c].isSurprise()) {
-                    continue;
-                }
+    // unpack one row of the mine bitmap into 0/1 bytes
+    private void loadMineRow(int row, byte[] out) {
+        int index = row * cols;
+        for (int c = 0; c < cols; c++, index++) {
+            out[c] = (byte) ((mineBits[index >>> 6] >>> index) & 1L);
+        }
+    }
 
-                int count = countNeighborMines(r, c);
-                cells[r][c].setNeighborMines(count);
-            }
+    // out[c] = row[c - 1] + row[c] + row[c + 1], with zeros past the left and right edges
+    private static void sumRow(byte[] row, byte[] out) {
+        int last = row.length - 1;
+        if (last == 0) {
+            out[0] = row[0];
+            return;
         }
+        out[0] = (byte) (row[0] + row[1]);
+        for (int c = 1; c < last; c++) {
+            out[c] = (byte) (row[c - 1] + row[c] + row[c + 1]);
+        }
+        out[last] = (byte) (row[last - 1] + row[last]);
     }
 
     private int countNeighborMines(int row, int col) {
-        // standard 8-neighbor check around a cell
+        // standard 8-neighbor check around a cell (fewer on the border, see NeighborTable)
+        int index = indexOf(row, col);
         int count = 0;
-        for (int dr = -1; dr <= 1; dr++) {
-            for (int dc = -1; dc <= 1; dc++) {
-                if (dr == 0 && dc == 0) continue;
-
-                int nr = row + dr;
-                int nc = col + dc;
-                if (isInside(nr, nc) && cells[nr][nc].isMine()) {
-                    count++;
-                }
+        for (int offset : neighbors.offsets(row, col)) {
+            if (testBit(mineBits, index + offset)) {
+                count++;
             }
         }
         return count;
@@ -208,77 +371,134 @@ public class Board {
         return r >= 0 && r < rows && c >= 0 && c < cols;
     }
 
-    public void reveal(int row, int col) {
-        // reveals a single cell; if it’s empty or a special (Q/S) we start the flood fill
-        Cell cell = cells[row][col];
-        if (cell.isRevealed() || cell.isFlagged()) return;
-
-        cell.setState(Cell.CellState.REVEALED);
+    private int indexOf(int r, int c) {
+        return r * cols + c;
+    }
 
-        // treat QUESTION and SURPRISE as “empty-like” for flood-fill purposes
-        if (cell.getType() == Cell.CellType.EMPTY
-                || cell.isQuestion()
-                || cell.isSurprise()) {
-            cascadeReveal(row, col);
+    // row * cols + col wraps an out-of-range column onto the next row, so public entry points
+    // check first instead of acting on the wrong cell
+    private void checkInside(int r, int c) {
+        if (!isInside(r, c)) {
+            throw new IndexOutOfBoundsException("Cell [" + r + "," + c + "] is outside a "
+                    + rows + "x" + cols + " board");
         }
     }
 
-    private void cascadeReveal(int row, int col) {
-        // flood fill starting from (row, col)
-        Queue<Cell> queue = new LinkedList<>();
-        queue.add(cells[row][col]);
-
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            int r = current.getRow();
-            int c = current.getCol();
-
-            // look at all 8 neighbors around this cell (including diagonals)
-            for (int dr = -1; dr <= 1; dr++) {
-                for (int dc = -1; dc <= 1; dc++) {
-                    if (dr == 0 && dc == 0) continue; // skip itself
-
-                    int nr = r + dr;
-                    int nc = c + dc;
-
-                    // out of bounds? skip this neighbor
-                    if (!isInside(nr, nc)) continue;
-
-                    Cell neighbor = cells[nr][nc];
+    // treat EMPTY, QUESTION and SURPRISE as "empty-like" for flood-fill purposes
+    boolean isEmptyLike(int index) {
+        return testBit(questionBits, index)
+                || testBit(surpriseBits, index)
+                || (!testBit(mineBits, index) && neighborCounts[index] == 0);
+    }
 
-                    // skip anything that's already open or flagged
-                    if (neighbor.isRevealed() || neighbor.isFlagged()) continue;
+    public BoardDelta reveal(int row, int col) {
+        // reveals a single cell; if it’s empty or a special (Q/S) we start the flood fill.
+        // returns every cell that got opened, so the ui only redraws those
+        checkInside(row, col);
+        BoardDelta delta = new BoardDelta();
+        int index = indexOf(row, col);
+        if (testBit(revealedBits, index) || testBit(flaggedBits, index)) return delta;
 
-                    // mines we skip, never auto-reveal
-                    if (neighbor.isMine()) continue;
+        changes = delta;
+        updateState(index, true, false);
 
-                    // reveal this cell now (EMPTY, NUMBER, QUESTION, SURPRISE are all safe)
-                    neighbor.setState(Cell.CellState.REVEALED);
+        if (isEmptyLike(index)) {
+            cascadeReveal(row, col);
+        }
+        changes = null;
+        return delta;
+    }
 
-                    // decide which types keep the wave going:
-                    //    EMPTY, QUESTION, SURPRISE all act like empty for flood-fill
-                    if (neighbor.getType() == Cell.CellType.EMPTY
-                            || neighbor.isQuestion()
-                            || neighbor.isSurprise()) {
-                        queue.add(neighbor);
+    private void cascadeReveal(int row, int col) {
+        // flood fill starting from (row, col), breadth-first over a reusable ring buffer of
+        // cell indices so a big empty region doesn't allocate anything.
+        // revealedBits doubles as the visited set: a cell is queued only at the moment it
+        // turns from hidden to revealed, so it can never be queued twice.
+        int[] queue = fillQueue;
+        int mask = queue.length - 1;
+        int head = 0;
+        int size = 1;
+        queue[0] = indexOf(row, col);
+
+        boolean parallel = ParallelFloodFill.isWorthIt();
+        while (size > 0) {
+            if (parallel && size >= ParallelFloodFill.MIN_FRONTIER) {
+                // a huge region: let the fork/join pool finish it from what's queued so far
+                finishInParallel(queue, head, size);
+                return;
+            }
+            int current = queue[head];
+            head = (head + 1) & mask;
+            size--;
+            int r = current / cols;
+            int c = current - r * cols;
+
+            // look at all 8 neighbors around this cell (including diagonals);
+            // the offsets table already leaves out the ones past the border
+            for (int offset : neighbors.offsets(r, c)) {
+                int neighbor = current + offset;
+
+                // skip anything that's already open or flagged
+                if (testBit(revealedBits, neighbor) || testBit(flaggedBits, neighbor)) continue;
+
+                // mines we skip, never auto-reveal
+                if (testBit(mineBits, neighbor)) continue;
+
+                // reveal this cell now (EMPTY, NUMBER, QUESTION, SURPRISE are all safe)
+                updateState(neighbor, true, false);
+
+                // EMPTY, QUESTION, SURPRISE keep the wave going;
+                // NUMBER cells are revealed but do not propagate
+                if (isEmptyLike(neighbor)) {
+                    if (size == queue.length) {
+                        queue = growFillQueue(queue, head);
+                        mask = queue.length - 1;
+                        head = 0;
                     }
-                    // NUMBER cells are revealed but do not propagate
+                    queue[(head + size) & mask] = neighbor;
+                    size++;
                 }
             }
         }
     }
 
+    // hands the queued cells to ParallelFloodFill, then books everything it opened at once.
+    // the cells it opens are never mines or flagged, so each one only moves a hidden safe
+    // cell to revealed
+    private void finishInParallel(int[] queue, int head, int size) {
+        int[] frontier = new int[size];
+        int firstPart = Math.min(size, queue.length - head);
+        System.arraycopy(queue, head, frontier, 0, firstPart);
+        System.arraycopy(queue, 0, frontier, firstPart, size - firstPart);
+
+        int opened = ParallelFloodFill.fill(this, revealedBits, flaggedBits, mineBits, frontier, size, changes);
+        hiddenCells -= opened;
+        remainingSafeCells -= opened;
+        revealedSafeCells += opened;
+    }
 
-    public void toggleFlag(int row, int col) {
-        // simple flag toggle, ui decides how to score it
-        Cell cell = cells[row][col];
-        if (cell.isRevealed()) return;
+    // double the ring buffer, unrolling it so the oldest entry lands at 0; kept for later fills
+    private int[] growFillQueue(int[] queue, int head) {
+        int[] bigger = new int[queue.length << 1];
+        int firstPart = queue.length - head;
+        System.arraycopy(queue, head, bigger, 0, firstPart);
+        System.arraycopy(queue, 0, bigger, firstPart, head);
+        fillQueue = bigger;
+        return bigger;
+    }
 
-        if (cell.isFlagged()) {
-            cell.setState(Cell.CellState.HIDDEN);
-        } else {
-            cell.setState(Cell.CellState.FLAGGED);
-        }
+
+    public BoardDelta toggleFlag(int row, int col) {
+        // simple flag toggle, ui decides how to score it
+        checkInside(row, col);
+        BoardDelta delta = new BoardDelta();
+        int index = indexOf(row, col);
+        if (testBit(revealedBits, index)) return delta;
+
+        changes = delta;
+        updateState(index, false, !testBit(flaggedBits, index));
+        changes = null;
+        return delta;
     }
 
     public int getRows() {
@@ -289,29 +509,82 @@ public class Board {
         return cols;
     }
 
+    /**
+     * Returns a view of the cell at (r, c). Views are cheap and created on demand;
+     * reading or changing one reads or changes this board directly.
+     */
     public Cell getCell(int r, int c) {
-        return cells[r][c];
+        checkInside(r, c);
+        return CellFactory.createBoardCell(this, r, c);
     }
 
     public Difficulty getDifficulty() {
         return difficulty;
     }
 
+    // seed this board was laid out from - pass it back in to get the same board again
+    // (only when isReproducible(); otherwise it gives the layout before the mines were moved)
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * true when {@code new Board(...)} with this board's size, counts and {@link #getSeed()}
+     * gives this exact layout. false for boards repaired by the NoGuessGenerator: those can
+     * only be made again through the generator, with the seed that was given to it.
+     */
+    public boolean isReproducible() {
+        return !minesMoved;
+    }
+
     public int getTotalMines() {
         return totalMines;
     }
 
     public int getHiddenMineCount() {
         // used to update “mines left” counter on the ui
-        int count = 0;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (cells[r][c].isMine() && !cells[r][c].isRevealed() && !cells[r][c].isFlagged()) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return hiddenMines;
+    }
+
+    public int getHiddenCellCount() {
+        return hiddenCells;
+    }
+
+    public int getFlaggedCellCount() {
+        return flaggedCells;
+    }
+
+    public int getRevealedSafeCellCount() {
+        return revealedSafeCells;
+    }
+
+    /**
+     * How many non-mine cells still have to be revealed; 0 means this board is cleared.
+     * Flagged safe cells still count as remaining.
+     */
+    public int getRemainingSafeCells() {
+        return remainingSafeCells;
+    }
+
+    /**
+     * true when this board came from the NoGuessGenerator and was verified to be solvable
+     * without guessing, starting from {@link #getSafeStartRow()}, {@link #getSafeStartCol()}
+     */
+    public boolean isNoGuess() {
+        return noGuess;
+    }
+
+    // true when the board has a guaranteed mine-free opening cell
+    public boolean hasSafeStart() {
+        return safeStartIndex >= 0;
+    }
+
+    public int getSafeStartRow() {
+        return safeStartIndex < 0 ? -1 : safeStartIndex / cols;
+    }
+
+    public int getSafeStartCol() {
+        return safeStartIndex < 0 ? -1 : safeStartIndex % cols;
     }
 
     /**
@@ -319,14 +592,204 @@ public class Board {
      */
     public boolean isFinished() {
         // once no cell is HIDDEN, this board is done
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                Cell cell = cells[r][c];
-                if (cell.isHidden()) {
-                    return false;
-                }
+        return hiddenCells == 0;
+    }
+
+    // -------------------------
+    // Counter bookkeeping
+    // -------------------------
+
+    // every revealed/flagged change goes through here so the counters never drift
+    private void updateState(int index, boolean revealed, boolean flagged) {
+        if (testBit(revealedBits, index) == revealed && testBit(flaggedBits, index) == flagged) {
+            return;
+        }
+        countCell(index, -1);
+        setBit(revealedBits, index, revealed);
+        setBit(flaggedBits, index, flagged);
+        countCell(index, 1);
+        if (changes != null) changes.add(index);
+    }
+
+    // add (delta = 1) or remove (delta = -1) one cell's contribution to the counters
+    private void countCell(int index, int delta) {
+        boolean mine = testBit(mineBits, index);
+        if (testBit(revealedBits, index)) {
+            if (!mine) revealedSafeCells += delta;
+            return;
+        }
+        if (!mine) remainingSafeCells += delta;
+        if (testBit(flaggedBits, index)) {
+            flaggedCells += delta;
+        } else {
+            hiddenCells += delta;
+            if (mine) hiddenMines += delta;
+        }
+    }
+
+    // -------------------------
+    // Cell view access (package-private, used by Cell)
+    // -------------------------
+
+    Cell.CellType getCellType(int index) {
+        if (testBit(mineBits, index)) return Cell.CellType.MINE;
+        if (testBit(questionBits, index)) return Cell.CellType.QUESTION;
+        if (testBit(surpriseBits, index)) return Cell.CellType.SURPRISE;
+        return neighborCounts[index] > 0 ? Cell.CellType.NUMBER : Cell.CellType.EMPTY;
+    }
+
+    void setCellType(int index, Cell.CellType type) {
+        countCell(index, -1);
+        setBit(mineBits, index, type == Cell.CellType.MINE);
+        countCell(index, 1);
+        setBit(questionBits, index, type == Cell.CellType.QUESTION);
+        setBit(surpriseBits, index, type == Cell.CellType.SURPRISE);
+    }
+
+    Cell.CellState getCellState(int index) {
+        if (testBit(revealedBits, index)) return Cell.CellState.REVEALED;
+        if (testBit(flaggedBits, index)) return Cell.CellState.FLAGGED;
+        return Cell.CellState.HIDDEN;
+    }
+
+    void setCellState(int index, Cell.CellState state) {
+        updateState(index, state == Cell.CellState.REVEALED, state == Cell.CellState.FLAGGED);
+    }
+
+    int getNeighborCount(int index) {
+        return neighborCounts[index];
+    }
+
+    void setNeighborCount(int index, int count) {
+        neighborCounts[index] = (byte) count;
+    }
+
+    boolean isReadyForQuestion(int index) {
+        return readyForQuestionBits != null && testBit(readyForQuestionBits, index);
+    }
+
+    void setReadyForQuestion(int index, boolean value) {
+        if (readyForQuestionBits == null) {
+            if (!value) return;
+            readyForQuestionBits = new long[mineBits.length];
+        }
+        setBit(readyForQuestionBits, index, value);
+    }
+
+    boolean isReadyForSurprise(int index) {
+        return readyForSurpriseBits != null && testBit(readyForSurpriseBits, index);
+    }
+
+    void setReadyForSurprise(int index, boolean value) {
+        if (readyForSurpriseBits == null) {
+            if (!value) return;
+            readyForSurpriseBits = new long[mineBits.length];
+        }
+        setBit(readyForSurpriseBits, index, value);
+    }
+
+    boolean isQuestionAttempted(int index) {
+        return questionAttemptedBits != null && testBit(questionAttemptedBits, index);
+    }
+
+    void setQuestionAttempted(int index, boolean value) {
+        if (questionAttemptedBits == null) {
+            if (!value) return;
+            questionAttemptedBits = new long[mineBits.length];
+        }
+        setBit(questionAttemptedBits, index, value);
+    }
+
+    boolean isSurprisePassed(int index) {
+        return surprisePassedBits != null && testBit(surprisePassedBits, index);
+    }
+
+    void setSurprisePassed(int index, boolean value) {
+        if (surprisePassedBits == null) {
+            if (!value) return;
+            surprisePassedBits = new long[mineBits.length];
+        }
+        setBit(surprisePassedBits, index, value);
+    }
+
+    // -------------------------
+    // Raw cell access (package-private, used by the solver / generator / probability engine)
+    // -------------------------
+
+    boolean isMine(int index) {
+        return testBit(mineBits, index);
+    }
+
+    boolean isRevealed(int index) {
+        return testBit(revealedBits, index);
+    }
+
+    // revealed bits, 64 cells per word, for readers that diff the board state (MineProbabilityEngine)
+    long getRevealedWord(int word) {
+        return revealedBits[word];
+    }
+
+    int getWordCount() {
+        return revealedBits.length;
+    }
+
+    boolean isSpecial(int index) {
+        return testBit(questionBits, index) || testBit(surpriseBits, index);
+    }
+
+    /**
+     * Moves the mine at {@code from} to the free cell {@code to} and fixes the neighbor
+     * counts around both. Only for boards nobody has played yet (NoGuessGenerator repairs);
+     * the caller keeps the special-cell rule (no mine next to Q/S).
+     */
+    void moveMine(int from, int to) {
+        minesMoved = true;
+        countCell(from, -1);
+        setBit(mineBits, from, false);
+        countCell(from, 1);
+        adjustNeighborCounts(from, -1);
+        neighborCounts[from] = (byte) countNeighborMines(from / cols, from % cols);
+
+        countCell(to, -1);
+        setBit(mineBits, to, true);
+        countCell(to, 1);
+        adjustNeighborCounts(to, 1);
+        neighborCounts[to] = 0;
+    }
+
+    // add delta to the count of every non-mine, non-special neighbor of index
+    private void adjustNeighborCounts(int index, int delta) {
+        for (int offset : neighbors.offsets(index / cols, index % cols)) {
+            int neighbor = index + offset;
+            if (!testBit(mineBits, neighbor) && !isSpecial(neighbor)) {
+                neighborCounts[neighbor] += delta;
             }
         }
-        return true;
+    }
+
+    // neighbor offsets of a cell, for the package's other grid walkers (solver, probabilities)
+    int[] neighborOffsets(int index) {
+        return neighbors.offsets(index / cols, index % cols);
+    }
+
+    void markSafeStart(int index, boolean verifiedNoGuess) {
+        safeStartIndex = index;
+        noGuess = verifiedNoGuess;
+    }
+
+    // -------------------------
+    // Bitset helpers
+    // -------------------------
+
+    private static boolean testBit(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
     }
 }
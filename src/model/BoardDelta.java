@@ -0,0 +1,87 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The cells a board operation changed (revealed, flagged or unflagged), as a growable list
+ * of cell indices (index = row * cols + col). Returned by Board.reveal / Board.toggleFlag so
+ * the ui can redraw just those cells instead of the whole board.
+ *
+ * The list is capped at MAX_LISTED cells: a bigger change (a cascade over a huge board can
+ * open hundreds of millions of cells) only keeps its count and turns into a bulk delta
+ * ({@link #isBulk()}), for which the ui repaints what is visible instead of cell by cell.
+ * That keeps a delta's memory small however much of the board one click opens.
+ */
+public final class BoardDelta {
+
+    // more changed cells than this and the delta stops listing them
+    public static final int MAX_LISTED = 1 << 16;
+
+    private int[] cells = new int[16];
+    private int size;
+    private boolean bulk;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // true when too many cells changed to list them; getIndex isn't available then
+    public boolean isBulk() {
+        return bulk;
+    }
+
+    // i-th changed cell index, in the order the cells changed
+    public int getIndex(int i) {
+        if (bulk) throw new IllegalStateException("bulk delta of " + size + " cells doesn't list them");
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+        return cells[i];
+    }
+
+    // appends another operation's changes (e.g. several reveals done by one effect)
+    public void addAll(BoardDelta other) {
+        if (other.bulk) {
+            becomeBulk(size + other.size);
+            return;
+        }
+        addAll(other.cells, other.size);
+    }
+
+    void add(int index) {
+        if (!bulk && (size < cells.length || ensureCapacity(size + 1))) {
+            cells[size++] = index;
+        } else {
+            size++; // bulk: only counted
+        }
+    }
+
+    void addAll(int[] indices, int count) {
+        if (bulk || !ensureCapacity(size + count)) {
+            size += count;
+            return;
+        }
+        System.arraycopy(indices, 0, cells, size, count);
+        size += count;
+    }
+
+    // grows the list; past MAX_LISTED turns the delta into a bulk one and returns false
+    private boolean ensureCapacity(int needed) {
+        if (needed > MAX_LISTED) {
+            becomeBulk(size);
+            return false;
+        }
+        if (needed > cells.length) {
+            cells = Arrays.copyOf(cells, Math.min(MAX_LISTED, Math.max(needed, cells.length << 1)));
+        }
+        return true;
+    }
+
+    private void becomeBulk(int newSize) {
+        bulk = true;
+        cells = null;
+        size = newSize;
+    }
+}
@@ -0,0 +1,167 @@
+package model;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import model.Board.Difficulty;
+
+/**
+ * BoardPool keeps a few ready-made boards per difficulty so a new game doesn't have to wait
+ * for generation on the EDT. Boards are generated on a background thread and handed out
+ * with {@link #take(Difficulty)}; if the pool for a difficulty is empty, take() just builds
+ * the board on the calling thread, so callers never block on the background work.
+ */
+public class BoardPool {
+
+    /**
+     * When the pool tops itself up after boards are taken.
+     */
+    public enum RefillPolicy {
+        EAGER,       // refill back to full depth after every take
+        WHEN_EMPTY,  // refill only once the pool for that difficulty runs dry
+        MANUAL       // never refill on its own, only warmUp() adds boards
+    }
+
+    // a game takes one board per player
+    public static final int BOARDS_PER_GAME = 2;
+    // two games' worth, so starting the next game right away still finds ready boards
+    public static final int DEFAULT_DEPTH = 2 * BOARDS_PER_GAME;
+
+    private static BoardPool instance;
+
+    private final int depth;
+    private final RefillPolicy policy;
+    private final Function<Difficulty, Board> generator;
+    private final Map<Difficulty, BlockingQueue<Board>> ready = new EnumMap<>(Difficulty.class);
+    private final Map<Difficulty, AtomicInteger> pending = new EnumMap<>(Difficulty.class);
+    private final ExecutorService executor;
+
+    /**
+     * @param depth boards to keep ready per difficulty (at least 1)
+     * @param policy when to refill after boards are taken
+     * @param generator builds one fresh board for a difficulty (runs on the background thread)
+     */
+    public BoardPool(int depth, RefillPolicy policy, Function<Difficulty, Board> generator) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Pool depth must be at least 1");
+        }
+        this.depth = depth;
+        this.policy = policy;
+        this.generator = generator;
+        for (Difficulty difficulty : Difficulty.values()) {
+            ready.put(difficulty, new LinkedBlockingQueue<>());
+            pending.put(difficulty, new AtomicInteger());
+        }
+        // one low-priority daemon thread: keeps the ui responsive and never holds the jvm open
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "board-pool");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the shared pool (regular boards, default depth, eager refill)
+     */
+    public static synchronized BoardPool getInstance() {
+        if (instance == null) {
+            instance = new BoardPool(DEFAULT_DEPTH, RefillPolicy.EAGER, Board::new);
+        }
+        return instance;
+    }
+
+    /**
+     * Starts filling every difficulty up to full depth in the background.
+     */
+    public void warmUp() {
+        for (Difficulty difficulty : Difficulty.values()) {
+            warmUp(difficulty);
+        }
+    }
+
+    /**
+     * Starts filling one difficulty up to full depth in the background.
+     */
+    public void warmUp(Difficulty difficulty) {
+        if (executor.isShutdown()) return;
+        BlockingQueue<Board> queue = ready.get(difficulty);
+        AtomicInteger inFlight = pending.get(difficulty);
+        // reserve the missing boards in inFlight before submitting them, so two callers at once
+        // (startup warm-up and a refill after take) can't both fill the same gap.
+        // inFlight is read before the queue: a finished board is queued before it leaves inFlight
+        int missing;
+        int building;
+        do {
+            building = inFlight.get();
+            missing = depth - building - queue.size();
+            if (missing <= 0) return;
+        } while (!inFlight.compareAndSet(building, building + missing));
+
+        for (int i = 0; i < missing; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        queue.offer(generator.apply(difficulty));
+                    } catch (RuntimeException e) {
+                        System.err.println("Error pre-generating " + difficulty + " board: " + e.getMessage());
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // shut down meanwhile: hand back the slots that were never submitted
+                inFlight.addAndGet(i - missing);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hands out a fresh, unplayed board. Never waits for the background thread: if nothing
+     * is ready yet the board is generated right here.
+     */
+    public Board take(Difficulty difficulty) {
+        Board board = ready.get(difficulty).poll();
+        if (board == null) {
+            board = generator.apply(difficulty);
+        }
+
+        switch (policy) {
+            case EAGER -> warmUp(difficulty);
+            case WHEN_EMPTY -> {
+                if (ready.get(difficulty).isEmpty()) {
+                    warmUp(difficulty);
+                }
+            }
+            case MANUAL -> { }
+        }
+        return board;
+    }
+
+    // boards ready right now for the difficulty (mostly for tests / debugging)
+    public int getReadyCount(Difficulty difficulty) {
+        return ready.get(difficulty).size();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public RefillPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Stops the background thread. Boards already in the pool can still be taken.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
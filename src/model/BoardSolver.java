@@ -0,0 +1,626 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BoardSolver plays a board the way a careful player would, without ever guessing, and
+ * tells whether that is enough to clear it. It only "sees" what a player sees: the numbers
+ * of the cells it has opened, plus the total mine count. The board itself is never changed;
+ * the solver keeps its own opened / known-mine state.
+ *
+ * Deduction runs in rounds, cheapest first:
+ * 1. single-cell rules (a number whose mines are all found opens the rest, a number with
+ *    exactly as many hidden neighbors as missing mines flags them all)
+ * 2. pair rules for two numbers sharing hidden cells (subset / overlap)
+ * 3. bounded backtracking over each connected part of the frontier: a cell that is safe
+ *    (or a mine) in every consistent assignment is safe (or a mine)
+ * The next round only runs when the cheaper ones are stuck.
+ */
+public class BoardSolver {
+
+    // frontier parts bigger than this are not enumerated (2^n worst case)
+    public static final int DEFAULT_MAX_COMPONENT_CELLS = 48;
+    // search nodes one backtracking run may visit before it gives up on that part
+    public static final int DEFAULT_NODE_BUDGET = 200_000;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte OPENED = 1;
+    private static final byte MINE = 2;
+
+    private final Board board;
+    private final int rows;
+    private final int cols;
+    private final int cellCount;
+    private final int maxComponentCells;
+    private final int nodeBudget;
+
+    private final byte[] state;
+    private int openedSafe;
+    private int knownMines;
+    private int unknownCells;
+    private final int safeTotal;
+    private final int mineTotal;
+
+    // opened cells showing a number; compacted as they stop touching unknown cells
+    private int[] frontier = new int[64];
+    private int frontierSize;
+
+    // numbered cells whose neighborhood changed since the single-cell rules last looked
+    private int[] dirty = new int[64];
+    private int dirtySize;
+    private final boolean[] isDirty;
+
+    private int[] openQueue = new int[64];
+    private final int[] neighbors = new int[8];   // isStuckFrontier
+    private final int[] touched = new int[8];     // touchNeighbors
+    private final int[] around = new int[8];      // leaf helpers at the bottom, never nested
+
+    // statistics of the last solve, mostly for the generator metrics
+    private int pairDeductions;
+    private int backtrackDeductions;
+
+    public BoardSolver(Board board) {
+        this(board, DEFAULT_MAX_COMPONENT_CELLS, DEFAULT_NODE_BUDGET);
+    }
+
+    public BoardSolver(Board board, int maxComponentCells, int nodeBudget) {
+        this.board = board;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.cellCount = rows * cols;
+        this.maxComponentCells = maxComponentCells;
+        this.nodeBudget = nodeBudget;
+        this.state = new byte[cellCount];
+        this.isDirty = new boolean[cellCount];
+
+        int mines = 0;
+        for (int i = 0; i < cellCount; i++) {
+            if (board.isMine(i)) mines++;
+        }
+        this.mineTotal = mines;
+        this.safeTotal = cellCount - mines;
+    }
+
+    /**
+     * Plays from a first click on (row, col) using deduction only.
+     *
+     * @return true if every safe cell can be opened without a guess
+     */
+    public boolean solveFrom(int row, int col) {
+        reset();
+        int start = row * cols + col;
+        if (board.isMine(start)) return false;
+
+        open(start);
+        while (openedSafe < safeTotal) {
+            if (dirtySize > 0) {
+                applySingleCellRules();
+            } else if (!applyMineCountRule() && !applyPairRules() && !applyBacktracking()) {
+                return false; // stuck: the next move would be a guess
+            }
+        }
+        return true;
+    }
+
+    // true if the last solve opened this cell
+    public boolean isOpened(int index) {
+        return state[index] == OPENED;
+    }
+
+    // true if the last solve proved this cell is a mine
+    public boolean isKnownMine(int index) {
+        return state[index] == MINE;
+    }
+
+    public int getOpenedSafeCount() {
+        return openedSafe;
+    }
+
+    public int getSafeCellCount() {
+        return safeTotal;
+    }
+
+    public int getPairDeductions() {
+        return pairDeductions;
+    }
+
+    public int getBacktrackDeductions() {
+        return backtrackDeductions;
+    }
+
+    /**
+     * true when the cell is still unknown after the last solve and touches an opened cell,
+     * i.e. it sits on the line where the solver got stuck
+     */
+    public boolean isStuckFrontier(int index) {
+        if (state[index] != UNKNOWN) return false;
+        int count = neighborsOf(index, neighbors);
+        for (int i = 0; i < count; i++) {
+            if (state[neighbors[i]] == OPENED) return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        Arrays.fill(state, UNKNOWN);
+        Arrays.fill(isDirty, false);
+        openedSafe = 0;
+        knownMines = 0;
+        unknownCells = cellCount;
+        frontierSize = 0;
+        dirtySize = 0;
+        pairDeductions = 0;
+        backtrackDeductions = 0;
+    }
+
+    // -------------------------
+    // Opening / flagging
+    // -------------------------
+
+    // opens a cell the same way Board.reveal does, cascading through empty-like cells
+    private void open(int index) {
+        if (state[index] != UNKNOWN) return;
+        if (board.isMine(index)) {
+            throw new IllegalStateException("Solver deduced mine cell " + index + " as safe");
+        }
+
+        int head = 0;
+        int tail = 0;
+        markOpened(index);
+        if (board.isEmptyLike(index)) {
+            openQueue[tail++] = index;
+        }
+
+        int[] cascade = new int[8];
+        while (head < tail) {
+            int current = openQueue[head++];
+            int count = neighborsOf(current, cascade);
+            for (int i = 0; i < count; i++) {
+                int neighbor = cascade[i];
+                if (state[neighbor] != UNKNOWN || board.isMine(neighbor)) continue;
+
+                markOpened(neighbor);
+                if (board.isEmptyLike(neighbor)) {
+                    if (tail == openQueue.length) {
+                        openQueue = Arrays.copyOf(openQueue, tail << 1);
+                    }
+                    openQueue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    private void markOpened(int index) {
+        state[index] = OPENED;
+        openedSafe++;
+        unknownCells--;
+        if (!board.isEmptyLike(index)) {
+            if (frontierSize == frontier.length) {
+                frontier = Arrays.copyOf(frontier, frontierSize << 1);
+            }
+            frontier[frontierSize++] = index;
+            markDirty(index);
+        }
+        touchNeighbors(index);
+    }
+
+    private void markMine(int index) {
+        if (state[index] != UNKNOWN) return;
+        if (!board.isMine(index)) {
+            throw new IllegalStateException("Solver deduced safe cell " + index + " as a mine");
+        }
+        state[index] = MINE;
+        knownMines++;
+        unknownCells--;
+        touchNeighbors(index);
+    }
+
+    // numbers around a cell that just changed need another look
+    private void touchNeighbors(int index) {
+        int count = neighborsOf(index, touched);
+        for (int i = 0; i < count; i++) {
+            int neighbor = touched[i];
+            if (state[neighbor] == OPENED && !board.isEmptyLike(neighbor)) {
+                markDirty(neighbor);
+            }
+        }
+    }
+
+    private void markDirty(int index) {
+        if (isDirty[index]) return;
+        isDirty[index] = true;
+        if (dirtySize == dirty.length) {
+            dirty = Arrays.copyOf(dirty, dirtySize << 1);
+        }
+        dirty[dirtySize++] = index;
+    }
+
+    // -------------------------
+    // Round 1: single-cell rules
+    // -------------------------
+
+    private void applySingleCellRules() {
+        int[] unknown = new int[8];
+        while (dirtySize > 0) {
+            int index = dirty[--dirtySize];
+            isDirty[index] = false;
+
+            int unknownCount = unknownNeighbors(index, unknown);
+            if (unknownCount == 0) continue;
+
+            int missing = missingMines(index);
+            if (missing == 0) {
+                for (int i = 0; i < unknownCount; i++) open(unknown[i]);
+            } else if (missing == unknownCount) {
+                for (int i = 0; i < unknownCount; i++) markMine(unknown[i]);
+            }
+        }
+    }
+
+    // if every mine is found the rest is safe; if every unknown cell must be a mine, flag them
+    private boolean applyMineCountRule() {
+        int missing = mineTotal - knownMines;
+        if (unknownCells == 0 || (missing != 0 && missing != unknownCells)) return false;
+
+        for (int i = 0; i < cellCount; i++) {
+            if (state[i] != UNKNOWN) continue;
+            if (missing == 0) {
+                open(i);
+            } else {
+                markMine(i);
+            }
+        }
+        return true;
+    }
+
+    // -------------------------
+    // Round 2: pair rules
+    // -------------------------
+
+    /**
+     * For two numbers A and B sharing hidden cells, the mines in the shared part are bounded
+     * by both numbers. If the bounds force A-only cells (or B-only cells) to be all mines or
+     * all safe, apply that. Covers both the subset rule and the overlap rule.
+     */
+    private boolean applyPairRules() {
+        compactFrontier();
+        boolean progress = false;
+        int[] unknownA = new int[8];
+        int[] unknownB = new int[8];
+        int[] onlyA = new int[8];
+        int[] onlyB = new int[8];
+
+        nextA:
+        for (int f = 0; f < frontierSize; f++) {
+            int a = frontier[f];
+            int countA = unknownNeighbors(a, unknownA);
+            if (countA == 0) continue;
+            int needA = missingMines(a);
+            int rowA = a / cols;
+            int colA = a % cols;
+
+            // any number sharing a cell with A is at most two steps away
+            for (int r = Math.max(0, rowA - 2); r <= Math.min(rows - 1, rowA + 2); r++) {
+                for (int c = Math.max(0, colA - 2); c <= Math.min(cols - 1, colA + 2); c++) {
+                    int b = r * cols + c;
+                    if (b <= a || state[b] != OPENED || board.isEmptyLike(b)) continue;
+
+                    int countB = unknownNeighbors(b, unknownB);
+                    if (countB == 0) continue;
+                    int needB = missingMines(b);
+
+                    int sizeOnlyA = difference(unknownA, countA, unknownB, countB, onlyA);
+                    int sizeOnlyB = difference(unknownB, countB, unknownA, countA, onlyB);
+                    int shared = countA - sizeOnlyA;
+                    if (shared == 0) continue;
+
+                    // mines in the shared cells: low..high
+                    int low = Math.max(0, Math.max(needA - sizeOnlyA, needB - sizeOnlyB));
+                    int high = Math.min(shared, Math.min(needA, needB));
+
+                    boolean settled = settle(onlyA, sizeOnlyA, needA - high, needA - low);
+                    settled |= settle(onlyB, sizeOnlyB, needB - high, needB - low);
+                    if (settled) {
+                        // A's hidden cells changed, look at them again
+                        progress = true;
+                        countA = unknownNeighbors(a, unknownA);
+                        if (countA == 0) continue nextA;
+                        needA = missingMines(a);
+                    }
+                }
+            }
+        }
+        if (progress) pairDeductions++;
+        return progress;
+    }
+
+    // cells that must hold between minMines and maxMines mines: all mines or all safe if forced
+    private boolean settle(int[] cells, int size, int minMines, int maxMines) {
+        if (size == 0) return false;
+        if (maxMines == 0) {
+            for (int i = 0; i < size; i++) open(cells[i]);
+            return true;
+        }
+        if (minMines == size) {
+            for (int i = 0; i < size; i++) markMine(cells[i]);
+            return true;
+        }
+        return false;
+    }
+
+    private static int difference(int[] from, int fromSize, int[] minus, int minusSize, int[] out) {
+        int size = 0;
+        outer:
+        for (int i = 0; i < fromSize; i++) {
+            for (int j = 0; j < minusSize; j++) {
+                if (from[i] == minus[j]) continue outer;
+            }
+            out[size++] = from[i];
+        }
+        return size;
+    }
+
+    private void compactFrontier() {
+        int[] unknown = new int[8];
+        int kept = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            if (unknownNeighbors(frontier[i], unknown) > 0) {
+                frontier[kept++] = frontier[i];
+            }
+        }
+        frontierSize = kept;
+    }
+
+    // -------------------------
+    // Round 3: bounded backtracking
+    // -------------------------
+
+    private boolean applyBacktracking() {
+        compactFrontier();
+        FrontierComponents components = new FrontierComponents(this);
+        boolean progress = false;
+        for (int part = 0; part < components.count(); part++) {
+            int[] cells = components.cells(part);
+            if (cells.length > maxComponentCells) continue;
+
+            ComponentSearch search = new ComponentSearch(this, cells,
+                    mineTotal - knownMines, cells.length == unknownCells, nodeBudget);
+            if (!search.run() || search.solutions == 0) continue;
+
+            for (int i = 0; i < cells.length; i++) {
+                if (search.mineHits[i] == 0) {
+                    open(cells[i]);
+                    progress = true;
+                } else if (search.mineHits[i] == search.solutions) {
+                    markMine(cells[i]);
+                    progress = true;
+                }
+            }
+        }
+        if (progress) backtrackDeductions++;
+        return progress;
+    }
+
+    /**
+     * Splits the unknown cells next to numbers into independent parts: two cells are in the
+     * same part when some number touches both.
+     */
+    static final class FrontierComponents {
+        private final int[][] parts;
+
+        FrontierComponents(BoardSolver solver) {
+            int[] partOf = new int[solver.cellCount];
+            Arrays.fill(partOf, -1);
+            int[] unknown = new int[8];
+            int[] stack = new int[64];
+            List<int[]> found = new ArrayList<>();
+
+            for (int f = 0; f < solver.frontierSize; f++) {
+                int count = solver.unknownNeighbors(solver.frontier[f], unknown);
+                for (int k = 0; k < count; k++) {
+                    int seed = unknown[k];
+                    if (partOf[seed] >= 0) continue;
+
+                    // flood over "shares a number with" starting from seed
+                    int id = found.size();
+                    int[] members = new int[8];
+                    int size = 0;
+                    int top = 0;
+                    stack[top++] = seed;
+                    partOf[seed] = id;
+                    int[] numbers = new int[8];
+                    int[] around = new int[8];
+                    while (top > 0) {
+                        int cell = stack[--top];
+                        if (size == members.length) members = Arrays.copyOf(members, size << 1);
+                        members[size++] = cell;
+
+                        int numberCount = solver.openedNumberNeighbors(cell, numbers);
+                        for (int n = 0; n < numberCount; n++) {
+                            int aroundCount = solver.unknownNeighbors(numbers[n], around);
+                            for (int m = 0; m < aroundCount; m++) {
+                                int next = around[m];
+                                if (partOf[next] >= 0) continue;
+                                partOf[next] = id;
+                                if (top == stack.length) stack = Arrays.copyOf(stack, top << 1);
+                                stack[top++] = next;
+                            }
+                        }
+                    }
+                    found.add(Arrays.copyOf(members, size));
+                }
+            }
+            parts = found.toArray(new int[0][]);
+        }
+
+        int count() {
+            return parts.length;
+        }
+
+        int[] cells(int part) {
+            return parts[part];
+        }
+    }
+
+    /**
+     * Enumerates every mine assignment of one frontier part that fits all numbers touching it,
+     * counting in how many of them each cell is a mine.
+     */
+    static final class ComponentSearch {
+        private final int[] cells;
+        private final int[][] cellConstraints; // constraint ids per local cell
+        private final int[] need;              // missing mines per constraint
+        private final int[] unassigned;        // unassigned cells per constraint
+        private final int[] assignedMines;     // mines assigned so far per constraint
+        private final int mineLimit;
+        private final boolean exact;
+        private int nodesLeft;
+        private int minesUsed;
+
+        long solutions;
+        final long[] mineHits;
+
+        ComponentSearch(BoardSolver solver, int[] cells, int mineLimit, boolean exact, int nodeBudget) {
+            this.cells = cells;
+            this.mineLimit = mineLimit;
+            this.exact = exact;
+            this.nodesLeft = nodeBudget;
+            this.mineHits = new long[cells.length];
+
+            // local ids for cells, and one constraint per number touching the part
+            Map<Integer, Integer> local = new HashMap<>();
+            for (int i = 0; i < cells.length; i++) local.put(cells[i], i);
+            Map<Integer, Integer> constraintIds = new LinkedHashMap<>();
+            List<List<Integer>> perCell = new ArrayList<>();
+            int[] numbers = new int[8];
+            for (int i = 0; i < cells.length; i++) {
+                List<Integer> ids = new ArrayList<>();
+                int count = solver.openedNumberNeighbors(cells[i], numbers);
+                for (int n = 0; n < count; n++) {
+                    Integer id = constraintIds.get(numbers[n]);
+                    if (id == null) {
+                        id = constraintIds.size();
+                        constraintIds.put(numbers[n], id);
+                    }
+                    ids.add(id);
+                }
+                perCell.add(ids);
+            }
+
+            int constraintCount = constraintIds.size();
+            this.need = new int[constraintCount];
+            this.unassigned = new int[constraintCount];
+            this.assignedMines = new int[constraintCount];
+            int[] unknown = new int[8];
+            for (Map.Entry<Integer, Integer> entry : constraintIds.entrySet()) {
+                need[entry.getValue()] = solver.missingMines(entry.getKey());
+                unassigned[entry.getValue()] = solver.unknownNeighbors(entry.getKey(), unknown);
+            }
+            this.cellConstraints = new int[cells.length][];
+            for (int i = 0; i < cells.length; i++) {
+                cellConstraints[i] = perCell.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+
+        // false when the node budget ran out before every assignment was seen
+        boolean run() {
+            boolean[] mine = new boolean[cells.length];
+            return search(0, mine);
+        }
+
+        private boolean search(int position, boolean[] mine) {
+            if (--nodesLeft < 0) return false;
+            if (position == cells.length) {
+                if (exact && minesUsed != mineLimit) return true;
+                solutions++;
+                for (int i = 0; i < cells.length; i++) {
+                    if (mine[i]) mineHits[i]++;
+                }
+                return true;
+            }
+
+            for (int choice = 0; choice <= 1; choice++) {
+                boolean isMine = choice == 1;
+                if (isMine && minesUsed == mineLimit) continue;
+                if (assign(position, isMine)) {
+                    mine[position] = isMine;
+                    boolean finished = search(position + 1, mine);
+                    unassign(position, isMine);
+                    if (!finished) return false;
+                } else {
+                    unassign(position, isMine);
+                }
+            }
+            mine[position] = false;
+            return true;
+        }
+
+        // applies the choice and reports whether every touched number can still be met
+        private boolean assign(int position, boolean isMine) {
+            boolean ok = true;
+            if (isMine) minesUsed++;
+            for (int id : cellConstraints[position]) {
+                unassigned[id]--;
+                if (isMine) assignedMines[id]++;
+                if (assignedMines[id] > need[id] || assignedMines[id] + unassigned[id] < need[id]) {
+                    ok = false;
+                }
+            }
+            return ok;
+        }
+
+        private void unassign(int position, boolean isMine) {
+            if (isMine) minesUsed--;
+            for (int id : cellConstraints[position]) {
+                unassigned[id]++;
+                if (isMine) assignedMines[id]--;
+            }
+        }
+    }
+
+    // -------------------------
+    // Neighborhood helpers
+    // -------------------------
+
+    private int neighborsOf(int index, int[] out) {
+        int[] offsets = board.neighborOffsets(index);
+        for (int i = 0; i < offsets.length; i++) {
+            out[i] = index + offsets[i];
+        }
+        return offsets.length;
+    }
+
+    int unknownNeighbors(int index, int[] out) {
+        int count = neighborsOf(index, around);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (state[around[i]] == UNKNOWN) out[size++] = around[i];
+        }
+        return size;
+    }
+
+    int openedNumberNeighbors(int index, int[] out) {
+        int count = neighborsOf(index, around);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            int neighbor = around[i];
+            if (state[neighbor] == OPENED && !board.isEmptyLike(neighbor)) out[size++] = neighbor;
+        }
+        return size;
+    }
+
+    // the number shown on an opened cell minus the mines already known around it
+    int missingMines(int index) {
+        int count = neighborsOf(index, around);
+        int known = 0;
+        for (int i = 0; i < count; i++) {
+            if (state[around[i]] == MINE) known++;
+        }
+        return board.getNeighborCount(index) - known;
+    }
+}
@@ -1,5 +1,10 @@
 package model;
 
+/**
+ * A single board cell. A Cell made with {@link #Cell(int, int)} keeps its own state;
+ * a Cell handed out by {@link Board#getCell(int, int)} is a lightweight view whose
+ * getters and setters go straight to the board's packed storage.
+ */
 public class Cell {
 
     public enum CellType {
@@ -19,6 +24,10 @@ public class Cell {
     private final int row;
     private final int col;
 
+    // set when this cell is a view over a Board, null for a standalone cell
+    private final Board board;
+    private final int index;
+
     private CellType type;
     private CellState state;
     private int neighborMines; // 0–8
@@ -30,45 +39,75 @@ public class Cell {
     private boolean surprisePassed = false;     // used to darken S after "pass turn" choice
 
     public boolean isReadyForQuestion() {
+        if (board != null) return board.isReadyForQuestion(index);
         return readyForQuestion;
     }
 
     public void setReadyForQuestion(boolean readyForQuestion) {
+        if (board != null) {
+            board.setReadyForQuestion(index, readyForQuestion);
+            return;
+        }
         this.readyForQuestion = readyForQuestion;
     }
 
     public boolean isReadyForSurprise() {
+        if (board != null) return board.isReadyForSurprise(index);
         return readyForSurprise;
     }
 
     public void setReadyForSurprise(boolean readyForSurprise) {
+        if (board != null) {
+            board.setReadyForSurprise(index, readyForSurprise);
+            return;
+        }
         this.readyForSurprise = readyForSurprise;
     }
 
     public boolean isQuestionAttempted() {
+        if (board != null) return board.isQuestionAttempted(index);
         return questionAttempted;
     }
 
     public void setQuestionAttempted(boolean questionAttempted) {
+        if (board != null) {
+            board.setQuestionAttempted(index, questionAttempted);
+            return;
+        }
         this.questionAttempted = questionAttempted;
     }
 
     public boolean isSurprisePassed() {
+        if (board != null) return board.isSurprisePassed(index);
         return surprisePassed;
     }
 
     public void setSurprisePassed(boolean surprisePassed) {
+        if (board != null) {
+            board.setSurprisePassed(index, surprisePassed);
+            return;
+        }
         this.surprisePassed = surprisePassed;
     }
 
     public Cell(int row, int col) {
         this.row = row;
         this.col = col;
+        this.board = null;
+        this.index = -1;
         this.type = CellType.EMPTY; // default, Board will override to mine / question / surprise / number
         this.state = CellState.HIDDEN; // at start all cells are hidden
         this.neighborMines = 0;
     }
 
+    // view over a board cell - all state lives in the board
+    Cell(Board board, int row, int col) {
+        this.row = row;
+        this.col = col;
+        this.board = board;
+        this.index = row * board.getCols() + col;
+    }
+
     // -------------------------
     // Getters
     // -------------------------
@@ -82,14 +121,17 @@ public class Cell {
     }
 
     public CellType getType() {
+        if (board != null) return board.getCellType(index);
         return type;
     }
 
     public CellState getState() {
+        if (board != null) return board.getCellState(index);
         return state;
     }
 
     public int getNeighborMines() {
+        if (board != null) return board.getNeighborCount(index);
         return neighborMines;
     }
 
@@ -98,10 +140,19 @@ public class Cell {
     // -------------------------
 
     public void setType(CellType type) {
+        if (board != null) {
+            board.setCellType(index, type);
+            return;
+        }
         this.type = type;
     }
 
     public void setNeighborMines(int count) {
+        if (board != null) {
+            // the board derives NUMBER / EMPTY from the count itself
+            board.setNeighborCount(index, count);
+            return;
+        }
         this.neighborMines = count;
         // here we decide if this cell should be NUMBER or EMPTY,
         // but we never override special types (mine / question / surprise)
@@ -119,6 +170,10 @@ public class Cell {
 
     public void setState(CellState newState) {
         // simple state change, UI will redraw based on this
+        if (board != null) {
+            board.setCellState(index, newState);
+            return;
+        }
         this.state = newState;
     }
 
@@ -127,27 +182,27 @@ public class Cell {
     // -------------------------
 
     public boolean isMine() {
-        return type == CellType.MINE;
+        return getType() == CellType.MINE;
     }
 
     public boolean isQuestion() {
-        return type == CellType.QUESTION;
+        return getType() == CellType.QUESTION;
     }
 
     public boolean isSurprise() {
-        return type == CellType.SURPRISE;
+        return getType() == CellType.SURPRISE;
     }
 
     public boolean isRevealed() {
-        return state == CellState.REVEALED;
+        return getState() == CellState.REVEALED;
     }
 
     public boolean isFlagged() {
-        return state == CellState.FLAGGED;
+        return getState() == CellState.FLAGGED;
     }
 
     public boolean isHidden() {
-        return state == CellState.HIDDEN;
+        return getState() == CellState.HIDDEN;
     }
 
     /**
@@ -156,11 +211,11 @@ public class Cell {
      * so the board knows if it should draw M, Q, S or a number
      */
     public String getDisplayLabel() {
-        return switch (type) {
+        return switch (getType()) {
             case MINE -> "M";
             case QUESTION -> "Q";
             case SURPRISE -> "S";
-            case NUMBER -> String.valueOf(neighborMines);
+            case NUMBER -> String.valueOf(getNeighborMines());
             case EMPTY -> "";
         };
     }
@@ -170,9 +225,9 @@ public class Cell {
      * helps when the board wants to treat them differently from normal numbers/empty
      */
     public boolean isSpecialCell() {
-        return type == CellType.MINE
-                || type == CellType.QUESTION
-                || type == CellType.SURPRISE;
+        return getType() == CellType.MINE
+                || getType() == CellType.QUESTION
+                || getType() == CellType.SURPRISE;
     }
 
     /**
@@ -180,12 +235,12 @@ public class Cell {
      * used a lot when we decide if we can give points or cascade reveal
      */
     public boolean isSafe() {
-        return type != CellType.MINE;
+        return getType() != CellType.MINE;
     }
 
     @Override
     public String toString() {
         // small debug string so we can print the cell in logs while testing
-        return "Cell[" + row + "," + col + "] Type:" + type + " State:" + state;
+        return "Cell[" + row + "," + col + "] Type:" + getType() + " State:" + getState();
     }
 }
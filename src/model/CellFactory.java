@@ -19,4 +19,17 @@ public class CellFactory {
         cell.setType(type);
         return cell;
     }
+
+    /**
+     * Creates a view over the cell stored at the given position of a board.
+     * The view holds no state of its own; it reads and writes the board directly.
+     *
+     * @param board the board that owns the cell data
+     * @param row the row position
+     * @param col the column position
+     * @return a new Cell view backed by the board
+     */
+    public static Cell createBoardCell(Board board, int row, int col) {
+        return new Cell(board, row, col);
+    }
 }
@@ -0,0 +1,242 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming CSV reader (RFC 4180): fields separated by commas, records by CRLF, LF or CR;
+ * a field that starts with a quote may contain commas, line breaks and doubled quotes ("").
+ * Leniently, text after a closing quote is kept, and a quote inside an unquoted field is
+ * taken literally.
+ *
+ * Records are read one at a time with next(). The reader keeps a single record in memory,
+ * in buffers it reuses for every record, so a file of any length is read in constant memory.
+ * Fields are only turned into Strings when asked for (get), and numbers can be parsed
+ * straight from the buffer (getInt / getLong).
+ *
+ * <pre>
+ * try (CsvReader csv = new CsvReader(reader)) {
+ *     while (csv.next()) {
+ *         String name = csv.get(0);
+ *         int score = csv.getInt(1);
+ *     }
+ * }
+ * </pre>
+ */
+public final class CsvReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final char[] input = new char[8192];
+    private int inputPos;
+    private int inputEnd;
+
+    // the current record: all field characters back to back, and where each field starts/ends
+    private char[] chars = new char[256];
+    private int length;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int fields;
+
+    private long lineNumber = 1;     // line the next record starts on
+    private long recordLineNumber;   // line the current record started on
+
+    public CsvReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return false at the end of the input
+     */
+    public boolean next() throws IOException {
+        int c = read();
+        if (c == EOF) return false;
+
+        recordLineNumber = lineNumber;
+        length = 0;
+        fields = 0;
+        while (true) {
+            // one field
+            int start = length;
+            if (c == '"') {
+                c = readQuoted();
+            }
+            while (c != ',' && c != '\n' && c != '\r' && c != EOF) {
+                append((char) c);
+                c = read();
+            }
+            endField(start);
+
+            if (c == ',') {
+                c = read();
+                continue;
+            }
+            if (c == '\r') {
+                if (peek() == '\n') read();
+                lineNumber++;
+            } else if (c == '\n') {
+                lineNumber++;
+            }
+            return true;
+        }
+    }
+
+    // reads a quoted field's content (opening quote already consumed); returns the char after the closing quote
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == EOF) return EOF; // unterminated: keep what we have
+            if (c == '"') {
+                if (peek() == '"') {
+                    read();
+                    append('"');
+                    continue;
+                }
+                return read();
+            }
+            if (c == '\n' || (c == '\r' && peek() != '\n')) lineNumber++;
+            append((char) c);
+        }
+    }
+
+    // number of fields in the current record (a blank line is one empty field)
+    public int size() {
+        return fields;
+    }
+
+    // true if the current record is a blank line
+    public boolean isBlankLine() {
+        return fields == 1 && isBlank(0);
+    }
+
+    // true if the field is empty or only whitespace
+    public boolean isBlank(int i) {
+        checkIndex(i);
+        for (int p = starts[i]; p < ends[i]; p++) {
+            if (!Character.isWhitespace(chars[p])) return false;
+        }
+        return true;
+    }
+
+    // the field as a String, exactly as in the file (quotes removed)
+    public String get(int i) {
+        checkIndex(i);
+        return new String(chars, starts[i], ends[i] - starts[i]);
+    }
+
+    // the field with surrounding whitespace removed
+    public String getTrimmed(int i) {
+        checkIndex(i);
+        int from = starts[i];
+        int to = ends[i];
+        while (from < to && Character.isWhitespace(chars[from])) from++;
+        while (to > from && Character.isWhitespace(chars[to - 1])) to--;
+        return new String(chars, from, to - from);
+    }
+
+    // true if the field equals text exactly
+    public boolean fieldEquals(int i, String text) {
+        checkIndex(i);
+        int len = ends[i] - starts[i];
+        if (len != text.length()) return false;
+        for (int k = 0; k < len; k++) {
+            if (chars[starts[i] + k] != text.charAt(k)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The field parsed as an int (surrounding whitespace allowed), without making a String.
+     *
+     * @throws NumberFormatException if it isn't a valid int
+     */
+    public int getInt(int i) {
+        long value = getLong(i);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("out of int range: " + get(i));
+        }
+        return (int) value;
+    }
+
+    /**
+     * The field parsed as a long (surrounding whitespace allowed), without making a String.
+     *
+     * @throws NumberFormatException if it isn't a valid long
+     */
+    public long getLong(int i) {
+        checkIndex(i);
+        int p = starts[i];
+        int end = ends[i];
+        while (p < end && Character.isWhitespace(chars[p])) p++;
+        while (end > p && Character.isWhitespace(chars[end - 1])) end--;
+
+        boolean negative = false;
+        if (p < end && (chars[p] == '-' || chars[p] == '+')) {
+            negative = chars[p] == '-';
+            p++;
+        }
+        if (p == end || end - p > 19) return Long.parseLong(get(i).trim()); // empty / possible overflow: let Long decide
+
+        long value = 0;
+        for (; p < end; p++) {
+            int digit = chars[p] - '0';
+            if (digit < 0 || digit > 9) throw new NumberFormatException("not a number: " + get(i));
+            value = value * 10 + digit;
+            if (value < 0) return Long.parseLong(get(i).trim()); // overflowed: let Long decide
+        }
+        return negative ? -value : value;
+    }
+
+    // line of the input the current record started on (1-based), for error messages
+    public long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= fields) throw new IndexOutOfBoundsException("field " + i + ", record has " + fields);
+    }
+
+    private void append(char c) {
+        if (length == chars.length) chars = Arrays.copyOf(chars, length << 1);
+        chars[length++] = c;
+    }
+
+    private void endField(int start) {
+        if (fields == starts.length) {
+            starts = Arrays.copyOf(starts, fields << 1);
+            ends = Arrays.copyOf(ends, fields << 1);
+        }
+        starts[fields] = start;
+        ends[fields] = length;
+        fields++;
+    }
+
+    private int read() throws IOException {
+        if (inputPos == inputEnd && !fill()) return EOF;
+        return input[inputPos++];
+    }
+
+    private int peek() throws IOException {
+        if (inputPos == inputEnd && !fill()) return EOF;
+        return input[inputPos];
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(input, 0, input.length);
+        while (n == 0) n = in.read(input, 0, input.length);
+        if (n < 0) return false;
+        inputPos = 0;
+        inputEnd = n;
+        return true;
+    }
+}
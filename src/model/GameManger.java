@@ -1,8 +1,11 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import model.Board.Difficulty;
 
 public class GameManger {
@@ -22,6 +25,7 @@ public class GameManger {
         public int attemptCost;  // cost to attempt (deducted before outcome)
         public String effectDescription; // description of special effect (e.g., "opened random mine")
         public List<int[]> cellsRevealed; // cells that were revealed as a special effect
+        public BoardDelta changedCells;   // every board cell the effect changed (incl. cascades)
 
         public QuestionResult(boolean isCorrect, int pointsChange, int livesChange, String effectDescription) {
             this.isCorrect = isCorrect;
@@ -30,6 +34,7 @@ public class GameManger {
             this.effectDescription = effectDescription;
             this.attemptCost = 0;  // default 0, will be set by caller
             this.cellsRevealed = new ArrayList<>();
+            this.changedCells = new BoardDelta();
         }
 
         public QuestionResult(boolean isCorrect, int pointsChange, int livesChange, int attemptCost, String effectDescription) {
@@ -39,6 +44,7 @@ public class GameManger {
             this.attemptCost = attemptCost;
             this.effectDescription = effectDescription;
             this.cellsRevealed = new ArrayList<>();
+            this.changedCells = new BoardDelta();
         }
     }
 
@@ -49,7 +55,18 @@ public class GameManger {
     private int maxLives;
     private GameStatus status;
     private int currentQuestionDifficulty = 1; // tracks current question difficulty (1=Easy, 2=Medium, 3=Hard, 4=Advanced)
-    private final Random random = new Random();
+
+    // every random choice in a game comes from the game seed, one split stream per concern,
+    // so a game can be replayed exactly and one concern never shifts the draws of another
+    private long seed;
+    private boolean seeded;                     // true = seed given by the caller, boards must come from it too
+    private SplittableRandom boardSeeds;        // seeds for the boards of this game
+    private SplittableRandom random;            // 50/50 question outcomes
+    private SplittableRandom mineEffectRandom;  // which mine "open random mine" picks
+    private SplittableRandom areaEffectRandom;  // where "open random 3x3 area" lands
+    private SplittableRandom questionRandom;    // which question gets asked next
+    private SplittableRandom surpriseRandom;    // whether a surprise turns out good or bad
+    private QuestionSession questionSession;    // questions already asked in this game
     
     // observers listen for score/lives changes - updates ui in real time
     private final List<GameObserver> observers = new ArrayList<>();
@@ -70,9 +87,31 @@ public class GameManger {
     // Flag system
     private int flagsRemaining = 0;             // tracks flags available for flagging cells
 
+    // mine probabilities per board (built on first use). nothing in the ui asks for them yet:
+    // the Metal Detector still shows the real mines and there is no hint button
+    private final Map<Board, MineProbabilityEngine> probabilityEngines = new IdentityHashMap<>();
+
     // this is acting like an init method (not a real constructor) for now
     public void GameManager(Difficulty difficulty) {
+        init(difficulty, ThreadLocalRandom.current().nextLong(), false);
+    }
+
+    // same as above, but every board and random effect of the game comes from the given seed
+    public void GameManager(Difficulty difficulty, long seed) {
+        init(difficulty, seed, true);
+    }
+
+    private void init(Difficulty difficulty, long seed, boolean seeded) {
         this.difficulty = difficulty;             // keep current difficulty so we know rules
+        this.seed = seed;
+        this.seeded = seeded;
+        SplittableRandom root = new SplittableRandom(seed);
+        boardSeeds = root.split();
+        random = root.split();
+        mineEffectRandom = root.split();
+        areaEffectRandom = root.split();
+        questionRandom = root.split();
+        surpriseRandom = root.split();
         configureLivesByDifficulty(difficulty);   // set starting hearts based on difficulty
         
         // Initialize scoring strategy based on difficulty
@@ -99,7 +138,8 @@ public class GameManger {
 
     // create a new board and reset score/lives/status
     public void startNewGame() {
-        this.board = new Board(difficulty);
+        this.board = createBoard();
+        releaseProbabilityEngines();
         this.score = 0;
         this.lives = maxLives;
         this.status = GameStatus.RUNNING;
@@ -107,6 +147,32 @@ public class GameManger {
         notifyObservers(); // notify observers about initial state
     }
 
+    // next board of this game. seeded games lay it out from the game seed, others take a
+    // pre-generated one from the BoardPool (its own seed is still on the board for replays)
+    public Board createBoard() {
+        if (seeded) {
+            return new Board(difficulty, boardSeeds.nextLong());
+        }
+        return BoardPool.getInstance().take(difficulty);
+    }
+
+    // the game's question draws; set by the controller when the game starts
+    public void setQuestionSession(QuestionSession questionSession) {
+        this.questionSession = questionSession;
+    }
+
+    public QuestionSession getQuestionSession() {
+        return questionSession;
+    }
+
+    // next not-yet-asked question for the given difficulty, picked from the game seed
+    public Questions nextQuestion(int questionDifficulty) {
+        if (questionSession == null) {
+            questionSession = SysData.newQuestionSession();
+        }
+        return questionSession.draw(questionDifficulty, questionRandom);
+    }
+
     // Set the board reference (called from Main.java after creating the game manager)
     public void setBoard(Board board) {
         this.board = board;
@@ -255,8 +321,8 @@ public class GameManger {
         if (isCorrect) {
             addPoints(6);
             // Open a random hidden mine
-            int[] mineCell = openRandomMine();
             QuestionResult result = new QuestionResult(true, 6, 0, "Correct! Revealed random mine & +6 points");
+            int[] mineCell = openRandomMine(result.changedCells);
             if (mineCell != null) {
                 result.cellsRevealed.add(mineCell);
             }
@@ -277,8 +343,8 @@ public class GameManger {
         if (isCorrect) {
             addPoints(10);
             // Open a random 3x3 area
-            List<int[]> revealed = openRandom3x3Area();
             QuestionResult result = new QuestionResult(true, 10, 0, "Correct! Revealed random 3x3 area & +10 points");
+            List<int[]> revealed = openRandom3x3Area(result.changedCells);
             result.cellsRevealed.addAll(revealed);
             return result;
         } else {
@@ -516,7 +582,7 @@ public class GameManger {
         }
     }
 
-    private int[] openRandomMine() {
+    private int[] openRandomMine(BoardDelta changes) {
         if (board == null) return null;
 
         List<int[]> hiddenMines = new ArrayList<>();
@@ -531,26 +597,26 @@ public class GameManger {
 
         if (hiddenMines.isEmpty()) return null;
 
-        int[] mineCell = hiddenMines.get(random.nextInt(hiddenMines.size()));
-        board.reveal(mineCell[0], mineCell[1]);
+        int[] mineCell = hiddenMines.get(mineEffectRandom.nextInt(hiddenMines.size()));
+        changes.addAll(board.reveal(mineCell[0], mineCell[1]));
         return mineCell;
     }
 
     // Helper: Open a random 3x3 area and return all revealed cells
-    private List<int[]> openRandom3x3Area() {
+    private List<int[]> openRandom3x3Area(BoardDelta changes) {
         List<int[]> revealed = new ArrayList<>();
         if (board == null) return revealed;
 
         // Pick a random center point for the 3x3 area
-        int centerRow = random.nextInt(Math.max(1, board.getRows() - 2));
-        int centerCol = random.nextInt(Math.max(1, board.getCols() - 2));
+        int centerRow = areaEffectRandom.nextInt(Math.max(1, board.getRows() - 2));
+        int centerCol = areaEffectRandom.nextInt(Math.max(1, board.getCols() - 2));
 
         // Reveal all cells in the 3x3 area
         for (int r = centerRow; r < centerRow + 3 && r < board.getRows(); r++) {
             for (int c = centerCol; c < centerCol + 3 && c < board.getCols(); c++) {
                 Cell cell = board.getCell(r, c);
                 if (cell.isHidden()) {
-                    board.reveal(r, c);
+                    changes.addAll(board.reveal(r, c));
                     revealed.add(new int[]{r, c});
                 }
             }
@@ -570,6 +636,11 @@ public class GameManger {
         }
     }
 
+    // whether an activated surprise is good (true) or bad, drawn from the game seed
+    public boolean rollSurprise() {
+        return surpriseRandom.nextBoolean();
+    }
+
     // how many points we get on a good effect (before life change)
     public int getGoodEffectPoints() {
         return scoringStrategy.getGoodEffectPoints();
@@ -622,6 +693,7 @@ public class GameManger {
             loseLife();
             if (lives <= 0) {
                 status = GameStatus.LOST;
+                releaseProbabilityEngines();
                 return RevealOutcome.GAME_LOST;
             }
             return RevealOutcome.MINE;
@@ -630,6 +702,7 @@ public class GameManger {
         // if every non-mine is open, we mark game as won
         if (checkWinCondition()) {
             status = GameStatus.WON;
+            releaseProbabilityEngines();
             return RevealOutcome.GAME_WON;
         }
 
@@ -666,16 +739,9 @@ public class GameManger {
 
 
     // win = all non-mine cells are revealed (we ignore flags here)
+    // the board keeps this count up to date on every reveal, so no scan is needed
     private boolean checkWinCondition() {
-        for (int r = 0; r < board.getRows(); r++) {
-            for (int c = 0; c < board.getCols(); c++) {
-                Cell cell = board.getCell(r, c);
-                if (!cell.isMine() && !cell.isRevealed()) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return board.getRemainingSafeCells() == 0;
     }
 
     // -------------------------------
@@ -688,6 +754,7 @@ public class GameManger {
     public int getMaxLives() { return maxLives; }
     public GameStatus getStatus() { return status; }
     public Difficulty getDifficulty() { return difficulty; }
+    public long getSeed() { return seed; }
     
     // Flag system getters
     public int getFlagsRemaining() { return flagsRemaining; }
@@ -821,6 +888,30 @@ public class GameManger {
         return metalDetectorPurchases;
     }
 
+    // -------------------------------
+    // Mine probabilities (model api only for now, no ui uses them yet)
+    // -------------------------------
+
+    // engine for the given board (one per board, it keeps itself up to date with reveals)
+    public MineProbabilityEngine getProbabilityEngine(Board target) {
+        return probabilityEngines.computeIfAbsent(target, MineProbabilityEngine::new);
+    }
+
+    // chance (0..1) that the cell is a mine, from what the players can see on that board
+    public double getMineProbability(Board target, int row, int col) {
+        return getProbabilityEngine(target).getMineProbability(row, col);
+    }
+
+    // safest hidden cell to open next as {row, col}, or null if nothing is left
+    public int[] getHintCell(Board target) {
+        return getProbabilityEngine(target).findSafestCell();
+    }
+
+    // drops the engines (two int[cellCount] arrays each); called when the game ends or is left
+    public void releaseProbabilityEngines() {
+        probabilityEngines.clear();
+    }
+
     public enum RevealOutcome {
         INVALID,
         ALREADY_REVEALED,
@@ -1,10 +1,12 @@
 package model;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * HistoryManager handles reading and writing game history to/from a CSV file.
@@ -85,13 +87,19 @@ public class HistoryManager {
      */
     public static List<History> readAllHistories() {
         List<History> histories = new ArrayList<>();
+        Set<HistoryKey> seen = new HashSet<>();
         
         // Load from classpath resources (bundled history) - works in both IDE and JAR
         System.out.println("Attempting to load bundled history from classpath resources");
         InputStream is = ResourceLoader.getResourceAsStream("/csvFiles/History.csv");
         if (is != null) {
             System.out.println("Found History.csv in classpath resources");
-            loadHistoriesFromStream(is, histories);
+            try (CsvReader csv = new CsvReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+                readHistories(csv, histories, seen);
+            } catch (IOException e) {
+                System.err.println("Error loading histories from stream: " + e.getMessage());
+                e.printStackTrace();
+            }
             System.out.println("Loaded " + histories.size() + " histories from classpath");
         }
         
@@ -103,20 +111,7 @@ public class HistoryManager {
             System.out.println("Attempting to load history from: " + csvPath);
             
             if (Files.exists(filePath)) {
-                List<String> lines = Files.readAllLines(filePath);
-                System.out.println("Loading history file with " + lines.size() + " lines total");
-                
-                // Skip header row
-                for (int i = 1; i < lines.size(); i++) {
-                    System.out.println("Loading line " + i + ": " + lines.get(i));
-                    History history = parseCSVLine(lines.get(i));
-                    if (history != null) {
-                        // Check if already loaded from classpath to avoid duplicates
-                        if (!isDuplicateHistory(histories, history)) {
-                            histories.add(history);
-                        }
-                    }
-                }
+                readHistoryFile(filePath, histories, seen);
                 System.out.println("Loaded from filesystem. Total histories so far: " + histories.size());
             } else {
                 System.out.println("History file does not exist at: " + csvPath);
@@ -135,20 +130,7 @@ public class HistoryManager {
             System.out.println("Attempting to load history from: " + userHistoryPath);
             
             if (Files.exists(userHistoryPath)) {
-                List<String> lines = Files.readAllLines(userHistoryPath);
-                System.out.println("Loading history file with " + lines.size() + " lines total");
-                
-                // Skip header row
-                for (int i = 1; i < lines.size(); i++) {
-                    System.out.println("Loading line " + i + ": " + lines.get(i));
-                    History history = parseCSVLine(lines.get(i));
-                    if (history != null) {
-                        // Check if already loaded from other source to avoid duplicates
-                        if (!isDuplicateHistory(histories, history)) {
-                            histories.add(history);
-                        }
-                    }
-                }
+                readHistoryFile(userHistoryPath, histories, seen);
                 System.out.println("Loaded from user directory. Total histories: " + histories.size());
             }
         } catch (IOException e) {
@@ -160,52 +142,72 @@ public class HistoryManager {
     }
     
     /**
-     * Check if a history entry is already in the list (to avoid duplicates when loading from multiple sources)
+     * Read a history file: streamed record by record, or for a big file memory-mapped and
+     * parsed in parallel (MappedHistoryReader). Either way the records are added in file order.
      */
-    private static boolean isDuplicateHistory(List<History> histories, History newHistory) {
-        for (History h : histories) {
-            // Consider it a duplicate if it has the same date, players, difficulty, and score
-            if (h.getDateTime() != null && newHistory.getDateTime() != null &&
-                h.getDateTime().equals(newHistory.getDateTime()) &&
-                h.getPlayer1Name() != null && h.getPlayer1Name().equals(newHistory.getPlayer1Name()) &&
-                h.getPlayer2Name() != null && h.getPlayer2Name().equals(newHistory.getPlayer2Name()) &&
-                h.getDifficulty() != null && h.getDifficulty().equals(newHistory.getDifficulty()) &&
-                h.getFinalScore() == newHistory.getFinalScore()) {
-                return true;
+    private static void readHistoryFile(Path path, List<History> histories, Set<HistoryKey> seen) throws IOException {
+        if (MappedHistoryReader.isWorthIt(path)) {
+            for (History history : MappedHistoryReader.read(path)) {
+                addIfNew(history, histories, seen);
             }
+            return;
+        }
+        try (CsvReader csv = new CsvReader(Files.newBufferedReader(path, StandardCharsets.UTF_8))) {
+            readHistories(csv, histories, seen);
         }
-        return false;
     }
     
     /**
-     * Load histories from an InputStream (JAR classpath resources)
+     * Read history records one at a time, skipping the header, bad records and games already
+     * loaded from another source (same date, players, difficulty and score).
      */
-    private static void loadHistoriesFromStream(InputStream is, List<History> histories) {
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
-            String line;
-            int lineCount = 0;
-            
-            System.out.println("Loading histories from InputStream (JAR resources)");
-            
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty() || line.startsWith("DateTime,")) {
-                    System.out.println("Skipping header line: " + line);
-                    continue; // Skip header
-                }
-                
-                lineCount++;
-                System.out.println("Loading line " + lineCount + ": " + line);
-                History history = parseCSVLine(line);
-                if (history != null) {
-                    histories.add(history);
-                }
+    private static void readHistories(CsvReader csv, List<History> histories, Set<HistoryKey> seen) throws IOException {
+        int skipped = parseRecords(csv, history -> addIfNew(history, histories, seen));
+        if (skipped > 0) {
+            System.out.println("Skipped " + skipped + " unreadable history records");
+        }
+    }
+    
+    /**
+     * Parse every record of csv and hand each History to out, skipping the header and blank lines.
+     *
+     * @return how many records could not be read
+     */
+    static int parseRecords(CsvReader csv, Consumer<History> out) throws IOException {
+        int skipped = 0;
+        while (csv.next()) {
+            if (csv.isBlankLine() || csv.fieldEquals(0, "DateTime")) {
+                continue; // Skip header
+            }
+            History history = parseRecord(csv);
+            if (history == null) {
+                skipped++;
+            } else {
+                out.accept(history);
             }
-            
-            System.out.println("Finished loading " + lineCount + " history lines from InputStream");
-        } catch (IOException e) {
-            System.err.println("Error loading histories from stream: " + e.getMessage());
-            e.printStackTrace();
+        }
+        return skipped;
+    }
+    
+    private static void addIfNew(History history, List<History> histories, Set<HistoryKey> seen) {
+        HistoryKey key = HistoryKey.of(history);
+        if (key == null || seen.add(key)) {
+            histories.add(history);
+        }
+    }
+    
+    /**
+     * What makes two history entries the same game when loading from multiple sources
+     */
+    private record HistoryKey(LocalDateTime dateTime, String player1, String player2, String difficulty, int score) {
+        // null if the entry lacks one of the fields, so it is never taken for a duplicate
+        static HistoryKey of(History h) {
+            if (h.getDateTime() == null || h.getPlayer1Name() == null || h.getPlayer2Name() == null
+                    || h.getDifficulty() == null) {
+                return null;
+            }
+            return new HistoryKey(h.getDateTime(), h.getPlayer1Name(), h.getPlayer2Name(),
+                    h.getDifficulty(), h.getFinalScore());
         }
     }
     
@@ -249,52 +251,47 @@ public class HistoryManager {
     }
     
     /**
-     * Parse a CSV line to History object
+     * Parse the reader's current record to a History object
      */
-    private static History parseCSVLine(String line) {
-        if (line == null || line.trim().isEmpty()) {
-            return null;
+    private static History parseRecord(CsvReader csv) {
+        if (csv.size() < 16) {
+            return null; // Invalid line
         }
         
         try {
-            String[] parts = parseCSVFields(line);
-            
-            if (parts.length < 16) {
-                return null; // Invalid line
-            }
-            
             History history = new History();
             
             // DateTime
-            if (!parts[0].isEmpty()) {
-                history.setDateTime(LocalDateTime.parse(parts[0], DATE_FORMATTER));
+            String dateTime = csv.getTrimmed(0);
+            if (!dateTime.isEmpty()) {
+                history.setDateTime(LocalDateTime.parse(dateTime, DATE_FORMATTER));
             }
             
             // Player names
-            history.setPlayer1Name(parts[1]);
-            history.setPlayer2Name(parts[2]);
+            history.setPlayer1Name(csv.getTrimmed(1));
+            history.setPlayer2Name(csv.getTrimmed(2));
             
             // Username
-            history.setUsername(parts[3]);
+            history.setUsername(csv.getTrimmed(3));
             
             // Difficulty
-            history.setDifficulty(parts[4]);
+            history.setDifficulty(csv.getTrimmed(4));
             
             // Win
-            history.setWin(Boolean.parseBoolean(parts[5]));
+            history.setWin(Boolean.parseBoolean(csv.getTrimmed(5)));
             
             // Score, Duration, MinesHit, QuestionsAnswered, CorrectQuestions, WrongQuestions, 
             // SurprisesTriggered, PositiveSurprises, NegativeSurprises, LivesRemaining
-            history.setFinalScore(Integer.parseInt(parts[6]));
-            history.setDurationSeconds(Long.parseLong(parts[7]));
-            history.setMinesHit(Integer.parseInt(parts[8]));
-            history.setQuestionsAnswered(Integer.parseInt(parts[9]));
-            history.setCorrectQuestions(Integer.parseInt(parts[10]));
-            history.setWrongQuestions(Integer.parseInt(parts[11]));
-            history.setSurprisesTriggered(Integer.parseInt(parts[12]));
-            history.setPositiveSurprises(Integer.parseInt(parts[13]));
-            history.setNegativeSurprises(Integer.parseInt(parts[14]));
-            history.setLivesRemaining(Integer.parseInt(parts[15]));
+            history.setFinalScore(csv.getInt(6));
+            history.setDurationSeconds(csv.getLong(7));
+            history.setMinesHit(csv.getInt(8));
+            history.setQuestionsAnswered(csv.getInt(9));
+            history.setCorrectQuestions(csv.getInt(10));
+            history.setWrongQuestions(csv.getInt(11));
+            history.setSurprisesTriggered(csv.getInt(12));
+            history.setPositiveSurprises(csv.getInt(13));
+            history.setNegativeSurprises(csv.getInt(14));
+            history.setLivesRemaining(csv.getInt(15));
             
             return history;
         } catch (Exception e) {
@@ -303,31 +300,6 @@ public class HistoryManager {
         }
     }
     
-    /**
-     * Parse CSV fields respecting quoted values
-     */
-    private static String[] parseCSVFields(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                fields.add(current.toString().trim());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
-            }
-        }
-        
-        fields.add(current.toString().trim());
-        return fields.toArray(new String[0]);
-    }
-    
     /**
      * Escape CSV fields that contain commas or quotes
      */
@@ -0,0 +1,81 @@
+package model;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.swing.ImageIcon;
+
+/**
+ * Shared cache of icon images, so views don't reload and rescale the same picture on every
+ * redraw. Each resource is read once (through {@link ResourceLoader}) and each (resource, size)
+ * pair is scaled once into an image compatible with the screen, which Swing can then paint
+ * without any conversion.
+ */
+public class IconCache {
+
+    // stands in for resources that couldn't be loaded, so we don't retry them on every call
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private static final Map<String, BufferedImage> SOURCES = new ConcurrentHashMap<>();
+    private static final Map<String, ImageIcon> SCALED = new ConcurrentHashMap<>();
+
+    private IconCache() {
+    }
+
+    /**
+     * The original (unscaled) image of a resource.
+     *
+     * @param resourcePath The resource path (e.g., "/resources/bomb.png")
+     * @return the image, or null if the resource can't be loaded
+     */
+    public static BufferedImage getImage(String resourcePath) {
+        BufferedImage image = SOURCES.computeIfAbsent(resourcePath, path -> {
+            BufferedImage loaded = ResourceLoader.loadImage(path);
+            return loaded != null ? loaded : MISSING;
+        });
+        return image == MISSING ? null : image;
+    }
+
+    /**
+     * The resource scaled smoothly to width x height.
+     *
+     * @return the shared icon, or null if the resource can't be loaded
+     */
+    public static ImageIcon get(String resourcePath, int width, int height) {
+        return get(resourcePath, width, height, Image.SCALE_SMOOTH);
+    }
+
+    /**
+     * The resource scaled to width x height with the given Image.SCALE_* hint.
+     *
+     * @return the shared icon, or null if the resource can't be loaded
+     */
+    public static ImageIcon get(String resourcePath, int width, int height, int scaleHints) {
+        BufferedImage source = getImage(resourcePath);
+        if (source == null) return null;
+
+        String key = resourcePath + '@' + width + 'x' + height + '/' + scaleHints;
+        return SCALED.computeIfAbsent(key, k -> new ImageIcon(scale(source, width, height, scaleHints)));
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, int scaleHints) {
+        // ImageIcon waits for the scaled image to be fully produced before we copy it
+        Image scaled = new ImageIcon(source.getScaledInstance(width, height, scaleHints)).getImage();
+
+        BufferedImage target;
+        if (GraphicsEnvironment.isHeadless()) {
+            target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        } else {
+            target = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        Graphics2D g = target.createGraphics();
+        g.drawImage(scaled, 0, 0, null);
+        g.dispose();
+        return target;
+    }
+}
@@ -0,0 +1,258 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Reads a big History.csv by memory-mapping it and parsing pieces of it in parallel, used by
+ * HistoryManager.readAllHistories for files of MIN_SIZE bytes or more.
+ *
+ * The file is cut into chunks of about the same size. A chunk can't simply start after the
+ * first '\n' past its cut, since that line break may be inside a quoted field, so it is done
+ * in two passes on the common fork/join pool:
+ * 1. every chunk is run through CsvReader's quoting rules (a quote only opens a quoted field
+ *    at the start of a field, "" inside one is a quote, anything else is literal) from each of
+ *    the four states a cut can fall in, noting where each run ends up and its first '\n'
+ *    outside quotes; going through the chunks in order then tells which state each cut
+ *    really is in, and so where the first record after it starts;
+ * 2. every piece between two boundaries is decoded (UTF-8) and parsed with its own CsvReader.
+ * Pieces are joined in file order, so the result is the same list the streaming reader gives.
+ *
+ * Mapped regions are released by the garbage collector, not when reading ends, which is why
+ * small files (every history file a player would normally have) keep using the streaming reader.
+ */
+final class MappedHistoryReader {
+
+    // files at least this big are read through this class
+    static final long MIN_SIZE = 8L << 20;
+
+    private static final long MIN_CHUNK = 1L << 20;
+    private static final long MAX_CHUNK = 64L << 20;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final long NONE = -1;
+
+    // CsvReader's quoting rules as a state machine over bytes
+    private static final int FIELD_START = 0; // at the start of a field (and of a record)
+    private static final int UNQUOTED = 1;    // in a field that didn't start with a quote: quotes are literal
+    private static final int QUOTED = 2;      // in a quoted field: commas and line breaks are data
+    private static final int QUOTE_SEEN = 3;  // a quote in a quoted field: closes it, unless another follows
+
+    private static final int OTHER = 0;
+    private static final int QUOTE = 1;
+    private static final int COMMA = 2;
+    private static final int LINE_END = 3; // '\n' or '\r'
+
+    // NEXT[state * 4 + byte class]
+    private static final int[] NEXT = {
+            UNQUOTED, QUOTED, FIELD_START, FIELD_START,  // FIELD_START
+            UNQUOTED, UNQUOTED, FIELD_START, FIELD_START, // UNQUOTED
+            QUOTED, QUOTE_SEEN, QUOTED, QUOTED,           // QUOTED
+            UNQUOTED, QUOTED, FIELD_START, FIELD_START,   // QUOTE_SEEN
+    };
+
+    private MappedHistoryReader() {
+    }
+
+    static boolean isWorthIt(Path file) throws IOException {
+        return Files.size(file) >= MIN_SIZE;
+    }
+
+    /**
+     * Every readable record of the file, in file order (header, blank lines and unreadable
+     * records left out; duplicates are kept, HistoryManager drops them).
+     */
+    static List<History> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int workers = ForkJoinPool.getCommonPoolParallelism();
+            long chunk = Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, size / ((long) workers * CHUNKS_PER_WORKER) + 1));
+            int chunks = (int) ((size + chunk - 1) / chunk);
+            if (chunks == 0) return new ArrayList<>();
+
+            // pass 1: quoting state and line breaks of each chunk
+            Scan[] scans = new Scan[chunks];
+            forEachChunk(chunks, i -> {
+                long from = i * chunk;
+                scans[i] = scan(map(channel, from, Math.min(chunk, size - from)));
+            });
+
+            // where each piece starts: the first line break outside quotes after each cut
+            long[] starts = new long[chunks + 1];
+            int pieces = 0;
+            starts[pieces++] = 0;
+            int state = FIELD_START;
+            for (int i = 0; i < chunks; i++) {
+                if (i > 0) {
+                    long lineBreak = scans[i].firstBreak[state];
+                    if (lineBreak != NONE) starts[pieces++] = i * chunk + lineBreak + 1;
+                }
+                state = scans[i].endState[state];
+            }
+            starts[pieces] = size;
+
+            // pass 2: parse the pieces
+            List<History>[] parsed = newLists(pieces);
+            int[] skipped = new int[pieces];
+            forEachChunk(pieces, i -> {
+                List<History> out = new ArrayList<>();
+                ByteBuffer piece = map(channel, starts[i], starts[i + 1] - starts[i]);
+                CsvReader csv = new CsvReader(new InputStreamReader(new BufferInput(piece), StandardCharsets.UTF_8));
+                try {
+                    skipped[i] = HistoryManager.parseRecords(csv, out::add);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                parsed[i] = out;
+            });
+
+            int total = 0;
+            int unreadable = 0;
+            for (int i = 0; i < pieces; i++) {
+                total += parsed[i].size();
+                unreadable += skipped[i];
+            }
+            List<History> histories = new ArrayList<>(total);
+            for (List<History> part : parsed) {
+                histories.addAll(part);
+            }
+            if (unreadable > 0) {
+                System.out.println("Skipped " + unreadable + " unreadable history records");
+            }
+            return histories;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // what pass 1 found in one chunk, for each state the chunk could start in:
+    // the state at its end, and its first record-ending '\n' (relative to the chunk start)
+    private static final class Scan {
+        final int[] endState;
+        final long[] firstBreak;
+
+        Scan(int[] endState, long[] firstBreak) {
+            this.endState = endState;
+            this.firstBreak = firstBreak;
+        }
+    }
+
+    // the four runs are kept in locals (s0..s3 started in state 0..3) so the loop stays in registers
+    private static Scan scan(ByteBuffer bytes) {
+        int s0 = FIELD_START, s1 = UNQUOTED, s2 = QUOTED, s3 = QUOTE_SEEN;
+        long b0 = NONE, b1 = NONE, b2 = NONE, b3 = NONE;
+        boolean settled = false; // every run is UNQUOTED or QUOTED, which plain bytes don't change
+        for (int p = 0, end = bytes.limit(); p < end; p++) {
+            byte b = bytes.get(p);
+            int type;
+            if (b == '"') {
+                type = QUOTE;
+            } else if (b == ',') {
+                type = COMMA;
+            } else if (b == '\n') {
+                // a line break outside quotes ends a record: the first one is where a piece can start
+                if (b0 == NONE && s0 != QUOTED) b0 = p;
+                if (b1 == NONE && s1 != QUOTED) b1 = p;
+                if (b2 == NONE && s2 != QUOTED) b2 = p;
+                if (b3 == NONE && s3 != QUOTED) b3 = p;
+                type = LINE_END;
+            } else if (b == '\r') {
+                type = LINE_END;
+            } else {
+                // most bytes: nothing to do unless a run sits at a field start or after a quote
+                if (!settled) {
+                    s0 = NEXT[s0 * 4 + OTHER];
+                    s1 = NEXT[s1 * 4 + OTHER];
+                    s2 = NEXT[s2 * 4 + OTHER];
+                    s3 = NEXT[s3 * 4 + OTHER];
+                    settled = true;
+                }
+                continue;
+            }
+            settled = false;
+            s0 = NEXT[s0 * 4 + type];
+            s1 = NEXT[s1 * 4 + type];
+            s2 = NEXT[s2 * 4 + type];
+            s3 = NEXT[s3 * 4 + type];
+        }
+        return new Scan(new int[] {s0, s1, s2, s3}, new long[] {b0, b1, b2, b3});
+    }
+
+    private static ByteBuffer map(FileChannel channel, long from, long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new UncheckedIOException(new IOException("history record longer than 2 GB at byte " + from));
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<History>[] newLists(int n) {
+        return (List<History>[]) new List<?>[n];
+    }
+
+    // runs work(0) .. work(chunks - 1) on the common fork/join pool and waits for all of them
+    private static void forEachChunk(int chunks, IntConsumer work) {
+        ForkJoinPool.commonPool().invoke(new ChunkTask(0, chunks, work));
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer work;
+
+        ChunkTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                work.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, mid, work), new ChunkTask(mid, to, work));
+        }
+    }
+
+    // a mapped region as an InputStream, for the UTF-8 decoder
+    private static final class BufferInput extends InputStream {
+        private final ByteBuffer bytes;
+
+        BufferInput(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return bytes.hasRemaining() ? bytes.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!bytes.hasRemaining()) return -1;
+            int n = Math.min(len, bytes.remaining());
+            bytes.get(b, off, n);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,629 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MineProbabilityEngine estimates, for every hidden cell of a board, the chance that it is a
+ * mine, using only what the players can see: the revealed numbers, the revealed mines and the
+ * total mine count. Flags are ignored (a flag can be wrong).
+ *
+ * Hidden cells next to a revealed number (the frontier) are split into independent parts.
+ * Each part is enumerated exactly when it is small enough; bigger parts fall back to a local
+ * estimate from the numbers around each cell. The parts and the untouched "interior" cells are
+ * then combined with the global mine count - exactly (weighting every part's mine count by
+ * how many ways the interior can hold the rest) when that is cheap, otherwise with a fixed
+ * mine density for the interior, which is what a big board converges to anyway.
+ *
+ * Updates are incremental: each query first diffs the board's revealed bits against the last
+ * state it saw and only re-enumerates the parts near cells that changed, so asking again after
+ * a Board.reveal costs about as much as the reveal itself.
+ */
+public class MineProbabilityEngine {
+
+    // frontier parts up to this size are enumerated exactly
+    public static final int MAX_EXACT_CELLS = 40;
+    // search nodes one part may take before we fall back to the local estimate
+    public static final int NODE_BUDGET = 100_000;
+    // exact combining costs parts * mines^2; above this we use the density approximation
+    private static final long MAX_EXACT_COMBINE_WORK = 20_000_000L;
+
+    private final Board board;
+    private final int rows;
+    private final int cols;
+    private final int cellCount;
+
+    private long[] seenRevealed;  // revealed bits at the last refresh
+    private int revealedCells;
+    private int revealedMines;
+
+    private final int[] partOf;   // part id per cell, -1 when not on the frontier
+    private final int[] slotOf;   // position of the cell inside its part
+    private final List<Part> parts = new ArrayList<>();
+    private double interiorProbability;
+    private boolean exact;
+
+    private final int[] around = new int[8];
+    private final int[] numbers = new int[8];
+
+    public MineProbabilityEngine(Board board) {
+        this.board = board;
+        this.rows = board.getRows();
+        this.cols = board.getCols();
+        this.cellCount = rows * cols;
+        this.partOf = new int[cellCount];
+        this.slotOf = new int[cellCount];
+        Arrays.fill(partOf, -1);
+    }
+
+    /**
+     * Chance (0..1) that the cell is a mine. Revealed cells give 0, or 1 for a revealed mine.
+     */
+    public double getMineProbability(int row, int col) {
+        refresh();
+        int index = row * cols + col;
+        if (board.isRevealed(index)) {
+            return board.isMine(index) ? 1.0 : 0.0;
+        }
+        int id = partOf[index];
+        return id < 0 ? interiorProbability : parts.get(id).probability[slotOf[index]];
+    }
+
+    /**
+     * The hidden, unflagged cell least likely to be a mine, as {row, col}, or null when there
+     * is none. Frontier cells win ties, since opening them tells the player more.
+     */
+    public int[] findSafestCell() {
+        refresh();
+        int best = -1;
+        double bestProbability = 2;
+        for (Part part : parts) {
+            if (part == null) continue;
+            for (int i = 0; i < part.cells.length; i++) {
+                int cell = part.cells[i];
+                if (part.probability[i] < bestProbability && board.getCellState(cell) == Cell.CellState.HIDDEN) {
+                    best = cell;
+                    bestProbability = part.probability[i];
+                }
+            }
+        }
+        if (interiorProbability < bestProbability) {
+            for (int index = 0; index < cellCount; index++) {
+                if (partOf[index] < 0 && board.getCellState(index) == Cell.CellState.HIDDEN) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        return best < 0 ? null : new int[]{best / cols, best % cols};
+    }
+
+    /**
+     * true when the last numbers came from full enumeration, false if any estimate was used
+     */
+    public boolean isExact() {
+        refresh();
+        return exact;
+    }
+
+    /**
+     * Brings the estimates up to date with the board. Called by every query, so callers only
+     * need it to do the work ahead of time (e.g. right after a reveal).
+     */
+    public void refresh() {
+        int words = board.getWordCount();
+        if (seenRevealed == null) {
+            seenRevealed = new long[words];
+        }
+
+        // cells whose revealed bit flipped since last time
+        int[] changed = new int[16];
+        int changedCount = 0;
+        for (int w = 0; w < words; w++) {
+            long now = board.getRevealedWord(w);
+            long diff = now ^ seenRevealed[w];
+            if (diff == 0) continue;
+            seenRevealed[w] = now;
+            while (diff != 0) {
+                int index = (w << 6) + Long.numberOfTrailingZeros(diff);
+                diff &= diff - 1;
+                boolean revealed = board.isRevealed(index);
+                revealedCells += revealed ? 1 : -1;
+                if (board.isMine(index)) revealedMines += revealed ? 1 : -1;
+                if (changedCount == changed.length) changed = Arrays.copyOf(changed, changedCount << 1);
+                changed[changedCount++] = index;
+            }
+        }
+        if (changedCount == 0 && !parts.isEmpty()) return;
+
+        rebuildParts(changed, changedCount);
+        combine();
+    }
+
+    // -------------------------
+    // Frontier parts
+    // -------------------------
+
+    /**
+     * One independent group of frontier cells: every assignment of its mines that fits the
+     * numbers, counted by how many mines it uses.
+     */
+    private static final class Part {
+        final int[] cells;
+        double[] ways;           // ways[k] = assignments with k mines (scaled, max 1)
+        double[][] mineWays;     // mineWays[i][k] = of those, assignments where cell i is a mine
+        double[] estimate;       // local estimate, used when the part isn't enumerated
+        final double[] probability;
+
+        Part(int[] cells) {
+            this.cells = cells;
+            this.probability = new double[cells.length];
+        }
+
+        boolean isExact() {
+            return ways != null;
+        }
+    }
+
+    private void rebuildParts(int[] changed, int changedCount) {
+        // every part within two cells of a change may have gained or lost numbers: drop it and
+        // flood again from its old cells and from the frontier cells around the change.
+        // parts built during this refresh already see the current board and are kept
+        int firstNewId = parts.size();
+        for (int i = 0; i < changedCount; i++) {
+            int row = changed[i] / cols;
+            int col = changed[i] % cols;
+            for (int r = Math.max(0, row - 2); r <= Math.min(rows - 1, row + 2); r++) {
+                for (int c = Math.max(0, col - 2); c <= Math.min(cols - 1, col + 2); c++) {
+                    int cell = r * cols + c;
+                    int id = partOf[cell];
+                    if (id >= 0 && id < firstNewId) {
+                        for (int old : dropPart(id)) {
+                            buildPart(old);
+                        }
+                    }
+                    buildPart(cell);
+                }
+            }
+        }
+    }
+
+    // new part around seed, if seed is a hidden frontier cell not in a part yet
+    private void buildPart(int seed) {
+        if (partOf[seed] >= 0 || board.isRevealed(seed) || !touchesNumber(seed)) return;
+
+        Part part = new Part(flood(seed));
+        int id = parts.size();
+        parts.add(part);
+        for (int slot = 0; slot < part.cells.length; slot++) {
+            partOf[part.cells[slot]] = id;
+            slotOf[part.cells[slot]] = slot;
+        }
+        enumerate(part);
+    }
+
+    private int[] dropPart(int id) {
+        Part part = parts.get(id);
+        parts.set(id, null);
+        for (int cell : part.cells) {
+            partOf[cell] = -1;
+        }
+        return part.cells;
+    }
+
+    // all hidden cells linked to seed through shared numbers; swallows any old part it meets
+    private int[] flood(int seed) {
+        int[] members = new int[16];
+        int size = 0;
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = seed;
+        partOf[seed] = Integer.MAX_VALUE; // "being flooded" marker
+
+        int[] numberCells = new int[8];
+        int[] hiddenCells = new int[8];
+        while (top > 0) {
+            int cell = stack[--top];
+            if (size == members.length) members = Arrays.copyOf(members, size << 1);
+            members[size++] = cell;
+
+            int numberCount = numberNeighbors(cell, numberCells);
+            for (int n = 0; n < numberCount; n++) {
+                int hiddenCount = hiddenNeighbors(numberCells[n], hiddenCells);
+                for (int h = 0; h < hiddenCount; h++) {
+                    int next = hiddenCells[h];
+                    if (partOf[next] == Integer.MAX_VALUE) continue;
+                    if (partOf[next] >= 0) dropPart(partOf[next]);
+                    partOf[next] = Integer.MAX_VALUE;
+                    if (top == stack.length) stack = Arrays.copyOf(stack, top << 1);
+                    stack[top++] = next;
+                }
+            }
+        }
+        return Arrays.copyOf(members, size);
+    }
+
+    // -------------------------
+    // Enumeration of one part
+    // -------------------------
+
+    private void enumerate(Part part) {
+        int size = part.cells.length;
+        if (size <= MAX_EXACT_CELLS) {
+            PartSearch search = new PartSearch(part.cells);
+            if (search.run()) {
+                double max = 0;
+                for (double w : search.ways) max = Math.max(max, w);
+                if (max > 0) {
+                    part.ways = new double[size + 1];
+                    part.mineWays = new double[size][size + 1];
+                    for (int k = 0; k <= size; k++) {
+                        part.ways[k] = search.ways[k] / max;
+                        for (int i = 0; i < size; i++) {
+                            part.mineWays[i][k] = search.mineWays[i][k] / max;
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+
+        // too big (or inconsistent): average of "missing mines / hidden cells" of its numbers
+        part.estimate = new double[size];
+        int[] numberCells = new int[8];
+        int[] hiddenCells = new int[8];
+        for (int i = 0; i < size; i++) {
+            int numberCount = numberNeighbors(part.cells[i], numberCells);
+            double sum = 0;
+            for (int n = 0; n < numberCount; n++) {
+                int hidden = hiddenNeighbors(numberCells[n], hiddenCells);
+                sum += Math.max(0, Math.min(1, (double) missingMines(numberCells[n]) / hidden));
+            }
+            part.estimate[i] = sum / numberCount;
+        }
+    }
+
+    /**
+     * Backtracking over a part's cells in flood order, counting fitting assignments per
+     * number of mines used.
+     */
+    private final class PartSearch {
+        private final int[] cells;
+        private final int[][] cellNumbers;   // number ids touching each cell
+        private final int[] need;
+        private final int[] open;            // unassigned cells per number
+        private final int[] placed;          // mines placed per number
+        private final boolean[] mine;
+        private int mines;
+        private int nodesLeft = NODE_BUDGET;
+
+        final double[] ways;
+        final double[][] mineWays;
+
+        PartSearch(int[] cells) {
+            this.cells = cells;
+            this.ways = new double[cells.length + 1];
+            this.mineWays = new double[cells.length][cells.length + 1];
+            this.mine = new boolean[cells.length];
+
+            Map<Integer, Integer> ids = new HashMap<>();
+            cellNumbers = new int[cells.length][];
+            int[] numberCells = new int[8];
+            for (int i = 0; i < cells.length; i++) {
+                int count = numberNeighbors(cells[i], numberCells);
+                cellNumbers[i] = new int[count];
+                for (int n = 0; n < count; n++) {
+                    Integer id = ids.get(numberCells[n]);
+                    if (id == null) {
+                        id = ids.size();
+                        ids.put(numberCells[n], id);
+                    }
+                    cellNumbers[i][n] = id;
+                }
+            }
+            need = new int[ids.size()];
+            open = new int[ids.size()];
+            placed = new int[ids.size()];
+            int[] hiddenCells = new int[8];
+            for (Map.Entry<Integer, Integer> entry : ids.entrySet()) {
+                need[entry.getValue()] = missingMines(entry.getKey());
+                open[entry.getValue()] = hiddenNeighbors(entry.getKey(), hiddenCells);
+            }
+        }
+
+        // false when the node budget ran out
+        boolean run() {
+            return search(0);
+        }
+
+        private boolean search(int position) {
+            if (--nodesLeft < 0) return false;
+            if (position == cells.length) {
+                ways[mines]++;
+                for (int i = 0; i < cells.length; i++) {
+                    if (mine[i]) mineWays[i][mines]++;
+                }
+                return true;
+            }
+            for (int choice = 0; choice <= 1; choice++) {
+                boolean isMine = choice == 1;
+                boolean fits = assign(position, isMine);
+                if (fits && !search(position + 1)) return false;
+                unassign(position, isMine);
+            }
+            return true;
+        }
+
+        private boolean assign(int position, boolean isMine) {
+            mine[position] = isMine;
+            if (isMine) mines++;
+            boolean fits = true;
+            for (int id : cellNumbers[position]) {
+                open[id]--;
+                if (isMine) placed[id]++;
+                if (placed[id] > need[id] || placed[id] + open[id] < need[id]) fits = false;
+            }
+            return fits;
+        }
+
+        private void unassign(int position, boolean isMine) {
+            mine[position] = false;
+            if (isMine) mines--;
+            for (int id : cellNumbers[position]) {
+                open[id]++;
+                if (isMine) placed[id]--;
+            }
+        }
+    }
+
+    // -------------------------
+    // Combining parts with the global mine count
+    // -------------------------
+
+    private void combine() {
+        compactParts();
+        List<Part> live = new ArrayList<>();
+        int frontierCells = 0;
+        long mineRange = 0;
+        boolean allExact = true;
+        for (Part part : parts) {
+            if (part == null) continue;
+            live.add(part);
+            frontierCells += part.cells.length;
+            mineRange += part.cells.length;
+            allExact &= part.isExact();
+        }
+
+        int interior = cellCount - revealedCells - frontierCells;
+        int minesLeft = board.getTotalMines() - revealedMines;
+
+        exact = allExact && (long) live.size() * mineRange * mineRange <= MAX_EXACT_COMBINE_WORK;
+        if (exact) {
+            combineExactly(live, interior, minesLeft, (int) mineRange);
+        } else {
+            combineWithDensity(live, interior, minesLeft);
+        }
+    }
+
+    /**
+     * Every part's mine count is weighted by the number of ways the interior can hold the
+     * remaining mines, C(interior, minesLeft - frontierMines). Prefix/suffix products of the
+     * parts' distributions give each part the distribution of "all the other parts".
+     */
+    private void combineExactly(List<Part> live, int interior, int minesLeft, int mineRange) {
+        // interiorWays[s] ~ C(interior, minesLeft - s), built in log space and scaled to max 1
+        // (log C(I, m) = log I! - log m! - log (I - m)!, the log I! part is the same for all s)
+        double[] interiorWays = new double[mineRange + 1];
+        double[] logs = new double[mineRange + 1];
+        double maxLog = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s <= mineRange; s++) {
+            int rest = minesLeft - s;
+            logs[s] = (rest < 0 || rest > interior) ? Double.NEGATIVE_INFINITY
+                    : -logFactorial(rest) - logFactorial(interior - rest);
+            maxLog = Math.max(maxLog, logs[s]);
+        }
+        for (int s = 0; s <= mineRange; s++) {
+            interiorWays[s] = logs[s] == Double.NEGATIVE_INFINITY ? 0 : Math.exp(logs[s] - maxLog);
+        }
+
+        int count = live.size();
+        double[][] prefix = new double[count + 1][];
+        double[][] suffix = new double[count + 1][];
+        prefix[0] = new double[]{1};
+        suffix[count] = new double[]{1};
+        for (int i = 0; i < count; i++) {
+            prefix[i + 1] = convolve(prefix[i], live.get(i).ways);
+        }
+        for (int i = count - 1; i >= 0; i--) {
+            suffix[i] = convolve(live.get(i).ways, suffix[i + 1]);
+        }
+
+        double total = 0;
+        double interiorMines = 0;
+        double[] all = prefix[count];
+        for (int s = 0; s < all.length && s <= mineRange; s++) {
+            total += all[s] * interiorWays[s];
+            interiorMines += all[s] * interiorWays[s] * (minesLeft - s);
+        }
+        if (total <= 0) {
+            // numbers contradict the mine count (e.g. a cell state was edited by hand)
+            combineWithDensity(live, interior, minesLeft);
+            exact = false;
+            return;
+        }
+        interiorProbability = interior == 0 ? 0 : interiorMines / total / interior;
+
+        for (int i = 0; i < count; i++) {
+            Part part = live.get(i);
+            double[] others = convolve(prefix[i], suffix[i + 1]);
+            // weight of "this part holds k mines" with everything else summed out
+            double[] weight = new double[part.ways.length];
+            for (int k = 0; k < weight.length; k++) {
+                double sum = 0;
+                for (int t = 0; t < others.length && k + t <= mineRange; t++) {
+                    sum += others[t] * interiorWays[k + t];
+                }
+                weight[k] = sum;
+            }
+            for (int c = 0; c < part.cells.length; c++) {
+                double mineWeight = 0;
+                for (int k = 0; k < weight.length; k++) {
+                    mineWeight += part.mineWays[c][k] * weight[k];
+                }
+                part.probability[c] = clamp(mineWeight / total);
+            }
+        }
+    }
+
+    /**
+     * Big boards: treat each interior cell as a mine with probability p, which weights a part's
+     * assignment with k mines by (p / (1 - p))^k. p starts at the plain density and is refined
+     * from the frontier's expected mines a few times.
+     */
+    private void combineWithDensity(List<Part> live, int interior, int minesLeft) {
+        int hidden = interior;
+        for (Part part : live) hidden += part.cells.length;
+        double p = hidden == 0 ? 0 : (double) minesLeft / hidden;
+
+        for (int round = 0; round < 4; round++) {
+            double bounded = Math.max(1e-9, Math.min(1 - 1e-9, p));
+            double logOdds = Math.log(bounded / (1 - bounded));
+            double frontierMines = 0;
+            for (Part part : live) {
+                if (part.isExact()) {
+                    // weight[k] = (p / (1 - p))^k, shifted so the largest used one is 1
+                    int size = part.ways.length - 1;
+                    double shift = logOdds > 0 ? size * logOdds : 0;
+                    double[] weight = new double[part.ways.length];
+                    double total = 0;
+                    for (int k = 0; k <= size; k++) {
+                        weight[k] = Math.exp(k * logOdds - shift);
+                        total += part.ways[k] * weight[k];
+                    }
+                    for (int c = 0; c < part.cells.length; c++) {
+                        double mineWeight = 0;
+                        for (int k = 0; k < weight.length; k++) mineWeight += part.mineWays[c][k] * weight[k];
+                        part.probability[c] = clamp(mineWeight / total);
+                    }
+                } else {
+                    System.arraycopy(part.estimate, 0, part.probability, 0, part.cells.length);
+                }
+                for (double probability : part.probability) frontierMines += probability;
+            }
+            p = interior == 0 ? 0 : clamp((minesLeft - frontierMines) / interior);
+        }
+        interiorProbability = p;
+    }
+
+    // dropped parts leave holes in the list; squeeze them out once they are the majority
+    private void compactParts() {
+        int live = 0;
+        for (Part part : parts) {
+            if (part != null) live++;
+        }
+        if (parts.size() < 64 || live * 2 > parts.size()) return;
+
+        List<Part> kept = new ArrayList<>(live);
+        for (Part part : parts) {
+            if (part == null) continue;
+            for (int cell : part.cells) {
+                partOf[cell] = kept.size();
+            }
+            kept.add(part);
+        }
+        parts.clear();
+        parts.addAll(kept);
+    }
+
+    private static double[] convolve(double[] a, double[] b) {
+        double[] out = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) continue;
+            for (int j = 0; j < b.length; j++) {
+                out[i + j] += a[i] * b[j];
+            }
+        }
+        // keep the numbers in range, only ratios matter
+        double max = 0;
+        for (double v : out) max = Math.max(max, v);
+        if (max > 0 && (max > 1e100 || max < 1e-100)) {
+            for (int i = 0; i < out.length; i++) out[i] /= max;
+        }
+        return out;
+    }
+
+    private static final double[] SMALL_LOG_FACTORIALS = new double[256];
+    static {
+        for (int n = 2; n < SMALL_LOG_FACTORIALS.length; n++) {
+            SMALL_LOG_FACTORIALS[n] = SMALL_LOG_FACTORIALS[n - 1] + Math.log(n);
+        }
+    }
+
+    // log(n!), exact table for small n and Stirling's series beyond
+    static double logFactorial(int n) {
+        if (n < SMALL_LOG_FACTORIALS.length) return SMALL_LOG_FACTORIALS[n];
+        double x = n;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x) + 1 / (12 * x) - 1 / (360 * x * x * x);
+    }
+
+    private static double clamp(double value) {
+        return Math.max(0, Math.min(1, value));
+    }
+
+    // -------------------------
+    // Neighborhood helpers
+    // -------------------------
+
+    private int neighborsOf(int index, int[] out) {
+        int[] offsets = board.neighborOffsets(index);
+        for (int i = 0; i < offsets.length; i++) {
+            out[i] = index + offsets[i];
+        }
+        return offsets.length;
+    }
+
+    // a revealed, non-mine cell showing a number, 0 included: a 0 pins its hidden neighbours
+    // (a wrongly flagged one the cascade skipped) to safe. revealed mines and Q/S cells say nothing
+    private boolean isNumber(int index) {
+        return board.isRevealed(index) && !board.isMine(index) && !board.isSpecial(index);
+    }
+
+    private boolean touchesNumber(int index) {
+        int count = neighborsOf(index, around);
+        for (int i = 0; i < count; i++) {
+            if (isNumber(around[i])) return true;
+        }
+        return false;
+    }
+
+    private int numberNeighbors(int index, int[] out) {
+        int count = neighborsOf(index, numbers);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (isNumber(numbers[i])) out[size++] = numbers[i];
+        }
+        return size;
+    }
+
+    private int hiddenNeighbors(int index, int[] out) {
+        int count = neighborsOf(index, around);
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (!board.isRevealed(around[i])) out[size++] = around[i];
+        }
+        return size;
+    }
+
+    // the number on a revealed cell minus the revealed mines around it
+    private int missingMines(int index) {
+        int count = neighborsOf(index, around);
+        int known = 0;
+        for (int i = 0; i < count; i++) {
+            if (board.isRevealed(around[i]) && board.isMine(around[i])) known++;
+        }
+        return board.getNeighborCount(index) - known;
+    }
+}
@@ -0,0 +1,68 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Neighbor index offsets for one board geometry. A cell's 8 (or fewer, on the border)
+ * neighbors are {@code index + offset} for each offset of the cell's position class
+ * (interior, one of the edges, one of the corners), so loops over neighbors need no
+ * per-neighbor bounds checks. The table is a handful of tiny arrays, no matter how big the
+ * board is, and one instance is shared by every board of the same size.
+ */
+final class NeighborTable {
+
+    private static final Map<Long, NeighborTable> CACHE = new ConcurrentHashMap<>();
+
+    private static final int TOP = 1;
+    private static final int BOTTOM = 2;
+    private static final int LEFT = 4;
+    private static final int RIGHT = 8;
+
+    private final int rows;
+    private final int cols;
+    private final int[][] offsetsByClass = new int[16][];
+
+    private NeighborTable(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        for (int positionClass = 0; positionClass < offsetsByClass.length; positionClass++) {
+            offsetsByClass[positionClass] = buildOffsets(positionClass);
+        }
+    }
+
+    static NeighborTable forSize(int rows, int cols) {
+        return CACHE.computeIfAbsent(((long) rows << 32) | cols, key -> new NeighborTable(rows, cols));
+    }
+
+    /**
+     * Offsets to add to the cell's index to get each of its neighbors, in row-major order.
+     */
+    int[] offsets(int row, int col) {
+        return offsetsByClass[positionClass(row, col)];
+    }
+
+    private int positionClass(int row, int col) {
+        return (row == 0 ? TOP : 0)
+                | (row == rows - 1 ? BOTTOM : 0)
+                | (col == 0 ? LEFT : 0)
+                | (col == cols - 1 ? RIGHT : 0);
+    }
+
+    private int[] buildOffsets(int positionClass) {
+        int[] offsets = new int[8];
+        int count = 0;
+        for (int dr = -1; dr <= 1; dr++) {
+            if (dr < 0 && (positionClass & TOP) != 0) continue;
+            if (dr > 0 && (positionClass & BOTTOM) != 0) continue;
+            for (int dc = -1; dc <= 1; dc++) {
+                if (dr == 0 && dc == 0) continue;
+                if (dc < 0 && (positionClass & LEFT) != 0) continue;
+                if (dc > 0 && (positionClass & RIGHT) != 0) continue;
+                offsets[count++] = dr * cols + dc;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+}
@@ -0,0 +1,223 @@
+package model;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import model.Board.Difficulty;
+
+/**
+ * NoGuessGenerator builds boards that can be cleared from a known first click without ever
+ * guessing. Each attempt lays out a normal board, clears the 3x3 area around the start cell
+ * (so the first click always opens an area) and runs the BoardSolver on it. When the solver
+ * gets stuck, a mine on the stuck frontier is moved somewhere far from the opened area and
+ * the board is checked again; after too many repairs the attempt is thrown away and a new
+ * layout is generated. Everything runs within a time budget.
+ *
+ * The same seed and settings give the same board as long as the time budget isn't hit.
+ * Moving mines means the board's own seed (Board.getSeed) no longer describes it
+ * (Board.isReproducible is false), so replays have to keep the seed given to generate.
+ */
+public class NoGuessGenerator {
+
+    public static final long DEFAULT_TIME_BUDGET_MS = 2000;
+    public static final int DEFAULT_MAX_REPAIRS = 64;
+
+    /**
+     * Running totals for one difficulty, so we can see what no-guess boards cost.
+     */
+    public static class Metrics {
+        private long boards;         // boards handed out
+        private long attempts;       // layouts generated (1 + regenerations per board)
+        private long repairs;        // mines moved to get a layout solvable
+        private long budgetExceeded; // boards handed out without the no-guess guarantee
+        private long totalNanos;
+
+        synchronized void record(int boardAttempts, int boardRepairs, boolean solved, long nanos) {
+            boards++;
+            attempts += boardAttempts;
+            repairs += boardRepairs;
+            if (!solved) budgetExceeded++;
+            totalNanos += nanos;
+        }
+
+        public synchronized long getBoards() { return boards; }
+        public synchronized long getAttempts() { return attempts; }
+        public synchronized long getRepairs() { return repairs; }
+        public synchronized long getBudgetExceeded() { return budgetExceeded; }
+
+        public synchronized double getAttemptsPerBoard() {
+            return boards == 0 ? 0 : (double) attempts / boards;
+        }
+
+        public synchronized double getAverageMillis() {
+            return boards == 0 ? 0 : totalNanos / 1e6 / boards;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("boards=%d attempts/board=%.2f repairs=%d overBudget=%d avg=%.2fms",
+                    boards, getAttemptsPerBoard(), repairs, budgetExceeded, getAverageMillis());
+        }
+    }
+
+    private final long timeBudgetMillis;
+    private final int maxRepairs;
+    private final Map<Difficulty, Metrics> metrics = new EnumMap<>(Difficulty.class);
+
+    public NoGuessGenerator() {
+        this(DEFAULT_TIME_BUDGET_MS, DEFAULT_MAX_REPAIRS);
+    }
+
+    /**
+     * @param timeBudgetMillis how long one board may take; after that the last layout is
+     *                         returned without the guarantee (see {@link Board#isNoGuess()})
+     * @param maxRepairs mines moved per layout before a fresh layout is generated instead
+     */
+    public NoGuessGenerator(long timeBudgetMillis, int maxRepairs) {
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxRepairs = maxRepairs;
+        for (Difficulty difficulty : Difficulty.values()) {
+            metrics.put(difficulty, new Metrics());
+        }
+    }
+
+    /**
+     * No-guess board with the regular size and counts of the difficulty.
+     * Fits BoardPool's generator, e.g. {@code new BoardPool(2, EAGER, generator::generate)}.
+     */
+    public Board generate(Difficulty difficulty) {
+        return generate(difficulty, ThreadLocalRandom.current().nextLong());
+    }
+
+    public Board generate(Difficulty difficulty, long seed) {
+        int[] preset = Board.presetFor(difficulty);
+        return generate(difficulty, preset[0], preset[1], preset[2], preset[3], preset[4], seed);
+    }
+
+    /**
+     * No-guess custom board. The first click must go to the middle cell
+     * ({@link Board#getSafeStartRow()}, {@link Board#getSafeStartCol()}).
+     */
+    public Board generate(Difficulty difficulty, int rows, int cols, int totalMines,
+                          int questionCells, int surpriseCells, long seed) {
+        long started = System.nanoTime();
+        long deadline = started + timeBudgetMillis * 1_000_000L;
+        SplittableRandom random = new SplittableRandom(seed);
+        int startRow = rows / 2;
+        int startCol = cols / 2;
+
+        Board board = null;
+        int attempts = 0;
+        int repairs = 0;
+        boolean solved = false;
+        while (!solved && (board == null || System.nanoTime() < deadline)) {
+            attempts++;
+            board = new Board(difficulty, rows, cols, totalMines, questionCells, surpriseCells, random.nextLong());
+            if (!clearStartArea(board, startRow, startCol, random)) {
+                break; // too crowded to even guarantee an opening, no point retrying
+            }
+
+            BoardSolver solver = new BoardSolver(board);
+            for (int repair = 0; repair <= maxRepairs && System.nanoTime() < deadline; repair++) {
+                if (solver.solveFrom(startRow, startCol)) {
+                    solved = true;
+                    break;
+                }
+                if (repair == maxRepairs || !repairOnce(board, solver, startRow, startCol, random)) {
+                    break;
+                }
+                repairs++;
+            }
+        }
+
+        board.markSafeStart(startRow * cols + startCol, solved);
+        metrics.get(difficulty).record(attempts, repairs, solved, System.nanoTime() - started);
+        return board;
+    }
+
+    public Metrics getMetrics(Difficulty difficulty) {
+        return metrics.get(difficulty);
+    }
+
+    // -------------------------
+    // Layout repair
+    // -------------------------
+
+    // moves every mine out of the 3x3 area around the start so the first click opens an area
+    private boolean clearStartArea(Board board, int startRow, int startCol, SplittableRandom random) {
+        for (int r = startRow - 1; r <= startRow + 1; r++) {
+            for (int c = startCol - 1; c <= startCol + 1; c++) {
+                if (r < 0 || r >= board.getRows() || c < 0 || c >= board.getCols()) continue;
+
+                int index = r * board.getCols() + c;
+                if (!board.isMine(index)) continue;
+
+                int target = findMineSpot(board, null, startRow, startCol, random);
+                if (target < 0) return false;
+                board.moveMine(index, target);
+            }
+        }
+        return true;
+    }
+
+    // moves mines off the line where the solver got stuck, to cells the solver hasn't reached.
+    // small boards move one mine per round; big boards move one per ~1000 cells so a repair
+    // round (which re-solves the whole board) makes progress in many places at once
+    private boolean repairOnce(Board board, BoardSolver solver, int startRow, int startCol, SplittableRandom random) {
+        int cellCount = board.getRows() * board.getCols();
+        int toMove = Math.max(1, cellCount / 1000);
+        int moved = 0;
+        int offset = random.nextInt(cellCount);
+        for (int i = 0; i < cellCount && moved < toMove; i++) {
+            int index = (offset + i) % cellCount;
+            if (!board.isMine(index) || !solver.isStuckFrontier(index)) continue;
+
+            int target = findMineSpot(board, solver, startRow, startCol, random);
+            if (target < 0) break;
+            board.moveMine(index, target);
+            moved++;
+        }
+        return moved > 0;
+    }
+
+    /**
+     * Finds a random cell that can take a mine: not a mine or special, not next to a special
+     * (Q/S keep their mine-free 3x3 area) and outside the start area. During repair we prefer
+     * cells away from everything the solver already reached; near the end of a board there
+     * may be none left, so then any legal cell will do (the board is re-solved from scratch
+     * anyway). Returns -1 when there is no such cell.
+     */
+    private int findMineSpot(Board board, BoardSolver solver, int startRow, int startCol, SplittableRandom random) {
+        int cellCount = board.getRows() * board.getCols();
+        // a few random probes first, then a full scan from a random offset
+        for (int probe = 0; probe < 32; probe++) {
+            int index = random.nextInt(cellCount);
+            if (canTakeMine(board, solver, index, startRow, startCol)) return index;
+        }
+        int offset = random.nextInt(cellCount);
+        for (int i = 0; i < cellCount; i++) {
+            int index = (offset + i) % cellCount;
+            if (canTakeMine(board, solver, index, startRow, startCol)) return index;
+        }
+        return solver == null ? -1 : findMineSpot(board, null, startRow, startCol, random);
+    }
+
+    private boolean canTakeMine(Board board, BoardSolver solver, int index, int startRow, int startCol) {
+        int cols = board.getCols();
+        int row = index / cols;
+        int col = index % cols;
+        if (Math.abs(row - startRow) <= 1 && Math.abs(col - startCol) <= 1) return false;
+        if (board.isMine(index) || board.isSpecial(index)) return false;
+
+        for (int r = row - 1; r <= row + 1; r++) {
+            for (int c = col - 1; c <= col + 1; c++) {
+                if (r < 0 || r >= board.getRows() || c < 0 || c >= cols) continue;
+                int neighbor = r * cols + c;
+                if (board.isSpecial(neighbor)) return false;
+                if (solver != null && (solver.isOpened(neighbor) || solver.isKnownMine(neighbor))) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+package model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Level-synchronous parallel flood fill, used by Board.cascadeReveal once a cascade's queue
+ * gets big (a single click on a huge sparse board can open millions of cells).
+ *
+ * Each level's frontier is split into chunks processed on the common fork/join pool; every
+ * chunk collects the next level's cells in its own buffer, and the buffers are copied once
+ * into the next frontier. A cell is claimed by atomically setting its revealed bit (compare-and-set
+ * on the bitset word), so it is opened and queued exactly once no matter which thread sees it
+ * first. The set of opened cells is therefore the same as the sequential fill's; only the
+ * visiting order differs.
+ */
+final class ParallelFloodFill {
+
+    // a cascade whose queue reaches this many cells switches to the parallel fill
+    static final int MIN_FRONTIER = 4096;
+
+    private static final int CHUNK = 1024; // frontier cells per task
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private ParallelFloodFill() {
+    }
+
+    // true when there is more than one worker to share the fill with
+    static boolean isWorthIt() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Continues a flood fill from the given frontier (cells that are already revealed and
+     * empty-like). Opens cells by setting their revealed bits only and appends each of them
+     * to {@code changes}; the caller updates the board's counters.
+     *
+     * @return how many cells were opened
+     */
+    static int fill(Board board, long[] revealedBits, long[] flaggedBits, long[] mineBits,
+                    int[] frontier, int frontierSize, BoardDelta changes) {
+        int opened = 0;
+        int[] current = frontier;
+        int size = frontierSize;
+        while (size > 0) {
+            Level[] chunks = new Level[(size + CHUNK - 1) / CHUNK];
+            ForkJoinPool.commonPool().invoke(
+                    new LevelTask(board, revealedBits, flaggedBits, mineBits, current, size, chunks, 0, chunks.length));
+
+            // one pass to book the opened cells, one copy to lay out the next frontier
+            int nextSize = 0;
+            for (Level chunk : chunks) {
+                changes.addAll(chunk.opened, chunk.openedSize);
+                opened += chunk.openedSize;
+                nextSize += chunk.size;
+            }
+            int[] next = new int[nextSize];
+            int at = 0;
+            for (Level chunk : chunks) {
+                System.arraycopy(chunk.next, 0, next, at, chunk.size);
+                at += chunk.size;
+            }
+            current = next;
+            size = nextSize;
+        }
+        return opened;
+    }
+
+    // what one chunk of a level produced
+    private static final class Level {
+        final int[] next;   // opened empty-like cells: part of the next frontier
+        final int size;
+        final int[] opened; // every cell opened
+        final int openedSize;
+
+        Level(int[] next, int size, int[] opened, int openedSize) {
+            this.next = next;
+            this.size = size;
+            this.opened = opened;
+            this.openedSize = openedSize;
+        }
+    }
+
+    // fills chunks[from..to), chunk i being frontier cells i * CHUNK up to the next CHUNK.
+    // each chunk keeps its own result, so joining tasks never copies anything
+    private static final class LevelTask extends RecursiveAction {
+        private final Board board;
+        private final long[] revealedBits;
+        private final long[] flaggedBits;
+        private final long[] mineBits;
+        private final int[] frontier;
+        private final int frontierSize;
+        private final Level[] chunks;
+        private final int from;
+        private final int to;
+
+        LevelTask(Board board, long[] revealedBits, long[] flaggedBits, long[] mineBits,
+                  int[] frontier, int frontierSize, Level[] chunks, int from, int to) {
+            this.board = board;
+            this.revealedBits = revealedBits;
+            this.flaggedBits = flaggedBits;
+            this.mineBits = mineBits;
+            this.frontier = frontier;
+            this.frontierSize = frontierSize;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LevelTask(board, revealedBits, flaggedBits, mineBits, frontier, frontierSize, chunks, from, mid),
+                        new LevelTask(board, revealedBits, flaggedBits, mineBits, frontier, frontierSize, chunks, mid, to));
+                return;
+            }
+
+            int first = from * CHUNK;
+            int last = Math.min(frontierSize, first + CHUNK);
+            int[] next = new int[(last - first) * 2];
+            int size = 0;
+            int[] opened = new int[(last - first) * 2];
+            int openedSize = 0;
+            for (int i = first; i < last; i++) {
+                int current = frontier[i];
+                for (int offset : board.neighborOffsets(current)) {
+                    int neighbor = current + offset;
+                    // flags and mines don't change during a fill, so plain reads are fine
+                    if (isSet(flaggedBits, neighbor) || isSet(mineBits, neighbor)) continue;
+                    if (!claim(revealedBits, neighbor)) continue; // already open, or another thread got it
+
+                    if (openedSize == opened.length) opened = Arrays.copyOf(opened, openedSize << 1);
+                    opened[openedSize++] = neighbor;
+                    if (board.isEmptyLike(neighbor)) {
+                        if (size == next.length) next = Arrays.copyOf(next, size << 1);
+                        next[size++] = neighbor;
+                    }
+                }
+            }
+            chunks[from] = new Level(next, size, opened, openedSize);
+        }
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // sets the bit and returns true, or returns false if it was already set
+    private static boolean claim(long[] bits, int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        long seen = (long) WORDS.getVolatile(bits, word);
+        while ((seen & bit) == 0) {
+            long witness = (long) WORDS.compareAndExchange(bits, word, seen, seen | bit);
+            if (witness == seen) return true;
+            seen = witness;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,228 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Band-parallel versions of Board's generation steps for giant boards, run on the common
+ * fork/join pool.
+ *
+ * Mines and specials are placed per band of cells. Each band covers a whole number of bitset
+ * words, so two bands never write the same word. How many mines (and specials) each band
+ * gets is drawn up front from the exact hypergeometric split, so the result is still a
+ * uniformly random layout. Neighbor counts are done per band of rows.
+ *
+ * Band sizes and band seeds depend only on the board size and the seed, never on the number
+ * of threads, so a seed gives the same board on any machine.
+ */
+final class ParallelGeneration {
+
+    // boards at least this big (about 2048 x 2048) take the parallel path
+    static final long MIN_CELLS = 1L << 22;
+
+    private static final int BAND_CELLS = 1 << 20; // multiple of 64: bands never share a word
+    private static final int BAND_ROWS = 256;
+
+    private ParallelGeneration() {
+    }
+
+    /**
+     * Sets exactly {@code mines} random bits among the first {@code cellCount} of mineBits.
+     */
+    static void placeMines(long[] mineBits, int cellCount, int mines, long seed) {
+        int bands = bandCount(cellCount);
+        int[] bandMines = new int[bands];
+        long[] bandSeeds = new long[bands];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        int cellsLeft = cellCount;
+        int minesLeft = mines;
+        for (int band = 0; band < bands; band++) {
+            int size = bandSize(band, cellCount);
+            bandMines[band] = hypergeometric(random, cellsLeft, minesLeft, size);
+            bandSeeds[band] = random.nextLong();
+            cellsLeft -= size;
+            minesLeft -= bandMines[band];
+        }
+
+        forEachBand(bands, band -> {
+            int from = band * BAND_CELLS;
+            int size = bandSize(band, cellCount);
+            SplittableRandom bandRandom = new SplittableRandom(bandSeeds[band]);
+
+            // partial Fisher-Yates inside the band, like Board.placeMinesRandomly
+            int[] indices = new int[size];
+            for (int i = 0; i < size; i++) {
+                indices[i] = from + i;
+            }
+            for (int i = 0; i < bandMines[band]; i++) {
+                int j = i + bandRandom.nextInt(size - i);
+                int picked = indices[j];
+                indices[j] = indices[i];
+                indices[i] = picked;
+                mineBits[picked >>> 6] |= 1L << picked;
+            }
+        });
+    }
+
+    /**
+     * Board.calculateNumbers, one band of rows per task.
+     */
+    static void calculateNumbers(Board board, int rows) {
+        int bands = (rows + BAND_ROWS - 1) / BAND_ROWS;
+        forEachBand(bands, band -> board.calculateNumbers(band * BAND_ROWS, Math.min(rows, (band + 1) * BAND_ROWS)));
+    }
+
+    /**
+     * Board.placeSpecialCells for giant boards: specials go on non-mine cells with a count
+     * of 0, chosen uniformly; if there are fewer such cells than specials, questions first.
+     */
+    static void placeSpecials(long[] mineBits, byte[] neighborCounts, long[] questionBits, long[] surpriseBits,
+                              int questionCells, int surpriseCells, long seed) {
+        int cellCount = neighborCounts.length;
+        int bands = bandCount(cellCount);
+
+        // 1. candidates per band
+        int[] candidates = new int[bands];
+        forEachBand(bands, band -> {
+            int from = band * BAND_CELLS;
+            int to = from + bandSize(band, cellCount);
+            int count = 0;
+            for (int index = from; index < to; index++) {
+                if (neighborCounts[index] == 0 && (mineBits[index >>> 6] & (1L << index)) == 0) count++;
+            }
+            candidates[band] = count;
+        });
+
+        // 2. split the specials (and which of them are questions) over the bands
+        long candidateTotal = 0;
+        for (int count : candidates) candidateTotal += count;
+        int specials = (int) Math.min(candidateTotal, (long) questionCells + surpriseCells);
+        int questions = Math.min(questionCells, specials);
+
+        int[] bandSpecials = new int[bands];
+        int[] bandQuestions = new int[bands];
+        long[] bandSeeds = new long[bands];
+        SplittableRandom random = new SplittableRandom(seed);
+        int candidatesLeft = (int) candidateTotal;
+        int specialsLeft = specials;
+        int questionsLeft = questions;
+        for (int band = 0; band < bands; band++) {
+            bandSpecials[band] = hypergeometric(random, candidatesLeft, specialsLeft, candidates[band]);
+            bandQuestions[band] = hypergeometric(random, specialsLeft, questionsLeft, bandSpecials[band]);
+            bandSeeds[band] = random.nextLong();
+            candidatesLeft -= candidates[band];
+            specialsLeft -= bandSpecials[band];
+            questionsLeft -= bandQuestions[band];
+        }
+
+        // 3. pick them inside each band
+        forEachBand(bands, band -> {
+            if (bandSpecials[band] == 0) return;
+            int from = band * BAND_CELLS;
+            int to = from + bandSize(band, cellCount);
+            int[] pool = new int[candidates[band]];
+            int size = 0;
+            for (int index = from; index < to; index++) {
+                if (neighborCounts[index] == 0 && (mineBits[index >>> 6] & (1L << index)) == 0) pool[size++] = index;
+            }
+
+            SplittableRandom bandRandom = new SplittableRandom(bandSeeds[band]);
+            for (int i = 0; i < bandSpecials[band]; i++) {
+                int j = i + bandRandom.nextInt(size - i);
+                int picked = pool[j];
+                pool[j] = pool[i];
+                pool[i] = picked;
+                long[] bits = i < bandQuestions[band] ? questionBits : surpriseBits;
+                bits[picked >>> 6] |= 1L << picked;
+            }
+        });
+    }
+
+    // -------------------------
+    // Helpers
+    // -------------------------
+
+    private static int bandCount(int cellCount) {
+        return (cellCount + BAND_CELLS - 1) / BAND_CELLS;
+    }
+
+    private static int bandSize(int band, int cellCount) {
+        return Math.min(BAND_CELLS, cellCount - band * BAND_CELLS);
+    }
+
+    // runs work(0) .. work(bands - 1) on the common fork/join pool and waits for all of them
+    private static void forEachBand(int bands, IntConsumer work) {
+        ForkJoinPool.commonPool().invoke(new BandTask(0, bands, work));
+    }
+
+    private static final class BandTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer work;
+
+        BandTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                work.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BandTask(from, mid, work), new BandTask(mid, to, work));
+        }
+    }
+
+    /**
+     * Number of marked items in a random sample of {@code draws} items taken from
+     * {@code population} items of which {@code marked} are marked. Inversion starting at the
+     * mode and walking outwards, so it takes about one standard deviation of steps.
+     */
+    static int hypergeometric(SplittableRandom random, int population, int marked, int draws) {
+        int low = Math.max(0, draws - (population - marked));
+        int high = Math.min(draws, marked);
+        if (low >= high) return low;
+
+        int mode = (int) (((long) draws + 1) * ((long) marked + 1) / ((long) population + 2));
+        mode = Math.max(low, Math.min(high, mode));
+        double pMode = Math.exp(logChoose(marked, mode) + logChoose(population - marked, draws - mode)
+                - logChoose(population, draws));
+
+        double u = random.nextDouble() - pMode;
+        int up = mode;
+        int down = mode;
+        double pUp = pMode;
+        double pDown = pMode;
+        while (u > 0 && (up < high || down > low)) {
+            if (up < high) {
+                // p(x + 1) = p(x) * (K - x)(n - x) / ((x + 1)(N - K - n + x + 1))
+                pUp *= (double) (marked - up) * (draws - up)
+                        / ((double) (up + 1) * ((long) population - marked - draws + up + 1));
+                up++;
+                u -= pUp;
+                if (u <= 0) return up;
+            }
+            if (down > low) {
+                // p(x - 1) = p(x) * x (N - K - n + x) / ((K - x + 1)(n - x + 1))
+                pDown *= (double) down * ((long) population - marked - draws + down)
+                        / ((double) (marked - down + 1) * (draws - down + 1));
+                down--;
+                u -= pDown;
+                if (u <= 0) return down;
+            }
+        }
+        return mode; // only reached through rounding error in the tail
+    }
+
+    private static double logChoose(int n, int k) {
+        return MineProbabilityEngine.logFactorial(n) - MineProbabilityEngine.logFactorial(k)
+                - MineProbabilityEngine.logFactorial(n - k);
+    }
+}
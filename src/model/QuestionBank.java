@@ -0,0 +1,43 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the questions, grouped by difficulty (1..4).
+ *
+ * Shared by every running game: a game draws through its own QuestionSession, which never
+ * writes into the bank, so any number of sessions can use one bank at once without locking.
+ * SysData builds a new bank whenever the question list changes; sessions that are already
+ * running keep the snapshot they started with.
+ */
+final class QuestionBank {
+
+    static final int MIN_DIFFICULTY = 1;
+    static final int MAX_DIFFICULTY = 4;
+
+    private final Questions[][] pools = new Questions[MAX_DIFFICULTY + 1][];
+
+    QuestionBank(List<Questions> questions) {
+        for (int d = MIN_DIFFICULTY; d <= MAX_DIFFICULTY; d++) {
+            List<Questions> pool = new ArrayList<>();
+            for (Questions q : questions) {
+                if (q.getDifficulty() == d) pool.add(q);
+            }
+            pools[d] = pool.toArray(new Questions[0]);
+        }
+    }
+
+    int total(int difficulty) {
+        return isValid(difficulty) ? pools[difficulty].length : 0;
+    }
+
+    // a private copy of one difficulty's questions, for a session to shuffle through
+    Questions[] copyPool(int difficulty) {
+        return pools[difficulty].clone();
+    }
+
+    static boolean isValid(int difficulty) {
+        return difficulty >= MIN_DIFFICULTY && difficulty <= MAX_DIFFICULTY;
+    }
+}
@@ -0,0 +1,63 @@
+package model;
+
+import java.util.SplittableRandom;
+
+/**
+ * The questions one game has drawn so far. Each game gets its own session (from
+ * SysData.newQuestionSession()), so games never see each other's draws.
+ *
+ * Per difficulty, the session keeps its own copy of the bank's questions (made on the first
+ * draw of that difficulty) whose first {@code remaining} entries are the ones not asked yet.
+ * Drawing picks a random one of those, swaps it to the end of that range and shrinks the
+ * range by one, so a draw and the remaining / total counts are all O(1) and reset() just puts
+ * the cursors back. A session belongs to one game and isn't meant to be shared between threads.
+ */
+public final class QuestionSession {
+
+    private final QuestionBank bank;
+    private final Questions[][] pools = new Questions[QuestionBank.MAX_DIFFICULTY + 1][];
+    private final int[] remaining = new int[QuestionBank.MAX_DIFFICULTY + 1];
+
+    QuestionSession(QuestionBank bank) {
+        this.bank = bank;
+        reset();
+    }
+
+    // makes every question available again
+    public void reset() {
+        for (int d = QuestionBank.MIN_DIFFICULTY; d <= QuestionBank.MAX_DIFFICULTY; d++) {
+            remaining[d] = bank.total(d);
+        }
+    }
+
+    // questions of this difficulty in the bank
+    public int getTotalQuestions(int difficulty) {
+        return bank.total(difficulty);
+    }
+
+    // questions of this difficulty not asked yet in this session
+    public int getRemainingQuestions(int difficulty) {
+        return QuestionBank.isValid(difficulty) ? remaining[difficulty] : 0;
+    }
+
+    /**
+     * A random not-yet-asked question of this difficulty, which is then marked as asked.
+     *
+     * @return the question, or null if all of them have been asked
+     */
+    public Questions draw(int difficulty, SplittableRandom random) {
+        if (!QuestionBank.isValid(difficulty) || remaining[difficulty] == 0) return null;
+
+        Questions[] pool = pools[difficulty];
+        if (pool == null) {
+            pool = bank.copyPool(difficulty);
+            pools[difficulty] = pool;
+        }
+        int last = --remaining[difficulty];
+        int pick = random.nextInt(last + 1);
+        Questions chosen = pool[pick];
+        pool[pick] = pool[last];
+        pool[last] = chosen;
+        return chosen;
+    }
+}
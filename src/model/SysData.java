@@ -2,24 +2,40 @@ package model;
 
 import java.io.*;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 public class SysData {
 
     private static String CSV_PATH = null;
     
+    // The stores below hold immutable snapshots. Readers just take the current one (no locks);
+    // every change builds a new snapshot and swaps it in atomically, so loading, saving and
+    // gameplay reads can overlap on different threads.
+
     // All questions in memory
-    private static final List<Questions> questionList = new ArrayList<>();
+    private static final AtomicReference<QuestionStore> questionStore =
+            new AtomicReference<>(new QuestionStore(List.of()));
     
     // All game histories in memory
-    private static final List<History> historyList = new ArrayList<>();
+    private static final AtomicReference<List<History>> historyStore = new AtomicReference<>(List.of());
+
+    // serializes writes of the questions CSV
+    private static final Object QUESTIONS_FILE_LOCK = new Object();
+
+    // one version of the question list, plus the by-difficulty bank games draw from
+    // (through their own QuestionSession), built from this version on first use
+    private static final class QuestionStore {
+        final List<Questions> questions;
+        volatile QuestionBank bank;
 
-    // For game runtime: track asked question IDs per difficulty (1..4)
-    private static final Map<Integer, Set<Integer>> askedQuestionIds = new HashMap<>();
+        QuestionStore(List<Questions> questions) {
+            this.questions = List.copyOf(questions);
+        }
+    }
     
     static {
         // Initialize CSV_PATH to work in both IDE and JAR
@@ -35,11 +51,6 @@ public class SysData {
      * 3. IDE development path (fallback)
      */
     private static void initializeQuestions() {
-        // init asked sets
-        for (int d = 1; d <= 4; d++) {
-            askedQuestionIds.put(d, new HashSet<>());
-        }
-        
         boolean loaded = false;
         
         // First try user home directory
@@ -81,8 +92,8 @@ public class SysData {
      */
     private static void initializeHistory() {
         System.out.println("Initializing history...");
-        historyList.addAll(HistoryManager.readAllHistories());
-        System.out.println("History initialization complete. Total histories loaded: " + historyList.size());
+        historyStore.set(List.copyOf(HistoryManager.readAllHistories()));
+        System.out.println("History initialization complete. Total histories loaded: " + historyStore.get().size());
     }
 
     // ---------------- Loading & Saving ----------------
@@ -93,152 +104,105 @@ public class SysData {
 
     // Load questions from a specific path
     public static void loadQuestions(String filePath) {
-        questionList.clear();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
-
-                // Skip the two initial header lines and the real header
-                if (line.equals("Questions") ||
-                    line.equals("Questions,,,,,,,") ||
-                    line.startsWith("ID,Question,")) {
-                    continue;
-                }
-
-                // We know we should have exactly 8 CSV columns:
-                // ID, Question, Difficulty, A, B, C, D, Correct
-                // Question may be quoted and contain commas, so we must parse quotes properly.
-                String[] fields = parseCsvLine(line);
-                if (fields.length != 8) {
-                    System.out.println("Skipping bad line (expected 8 fields): " + line);
-                    continue;
-                }
-
-                try {
-                    int id = Integer.parseInt(fields[0].trim());
-                    String text = fields[1].trim();
-                    int difficulty = Integer.parseInt(fields[2].trim());
-                    String optA = fields[3].trim();
-                    String optB = fields[4].trim();
-                    String optC = fields[5].trim();
-                    String optD = fields[6].trim();
-                    String correct = fields[7].trim();
-
-                    Questions q = new Questions(id, text, difficulty, optA, optB, optC, optD, correct);
-                    questionList.add(q);
-                } catch (NumberFormatException e) {
-                    System.out.println("Skipping bad line (parse error): " + line);
-                }
-            }
+        List<Questions> loaded = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(new BufferedReader(new FileReader(filePath)))) {
+            readQuestions(csv, loaded);
         } catch (IOException e) {
             System.err.println("Error loading questions from " + filePath + ": " + e.getMessage());
             e.printStackTrace();
         }
+        questionStore.set(new QuestionStore(loaded));
     }
 
     // Load questions from an InputStream (works with JAR classpath resources)
     private static void loadQuestionsFromStream(InputStream is) {
-        questionList.clear();
-
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
-            String line;
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
-
-                // Skip the two initial header lines and the real header
-                if (line.equals("Questions") ||
-                    line.equals("Questions,,,,,,,") ||
-                    line.startsWith("ID,Question,")) {
-                    continue;
-                }
-
-                // We know we should have exactly 8 CSV columns:
-                // ID, Question, Difficulty, A, B, C, D, Correct
-                String[] fields = parseCsvLine(line);
-                if (fields.length != 8) {
-                    System.out.println("Skipping bad line (expected 8 fields): " + line);
-                    continue;
-                }
-
-                try {
-                    int id = Integer.parseInt(fields[0].trim());
-                    String text = fields[1].trim();
-                    int difficulty = Integer.parseInt(fields[2].trim());
-                    String optA = fields[3].trim();
-                    String optB = fields[4].trim();
-                    String optC = fields[5].trim();
-                    String optD = fields[6].trim();
-                    String correct = fields[7].trim();
-
-                    Questions q = new Questions(id, text, difficulty, optA, optB, optC, optD, correct);
-                    questionList.add(q);
-                } catch (NumberFormatException e) {
-                    System.out.println("Skipping bad line (parse error): " + line);
-                }
-            }
+        List<Questions> loaded = new ArrayList<>();
+        try (CsvReader csv = new CsvReader(new InputStreamReader(is))) {
+            readQuestions(csv, loaded);
         } catch (IOException e) {
             System.err.println("Failed to load questions from stream: " + e.getMessage());
             e.printStackTrace();
         }
+        questionStore.set(new QuestionStore(loaded));
     }
 
- // Simple CSV parser: handles quoted fields with commas and unquoted fields
-    private static String[] parseCsvLine(String line) {
-        java.util.List<String> result = new java.util.ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char ch = line.charAt(i);
-            if (ch == '\"') {
-                inQuotes = !inQuotes; // toggle quote state
-            } else if (ch == ',' && !inQuotes) {
-                // end of field
-                result.add(current.toString());
-                current.setLength(0);
-            } else {
-                current.append(ch);
+    // reads question records until the end of the input
+    private static void readQuestions(CsvReader csv, List<Questions> loaded) throws IOException {
+        while (csv.next()) {
+            if (csv.isBlankLine()) continue;
+
+            // Skip the two initial header lines ("Questions" / "Questions,,,,,,,") and the real header
+            if (csv.getTrimmed(0).equals("Questions") ||
+                (csv.size() > 1 && csv.fieldEquals(0, "ID") && csv.fieldEquals(1, "Question"))) {
+                continue;
+            }
+
+            // We know we should have exactly 8 CSV columns:
+            // ID, Question, Difficulty, A, B, C, D, Correct
+            if (csv.size() != 8) {
+                System.out.println("Skipping bad record at line " + csv.getLineNumber() + " (expected 8 fields, got " + csv.size() + ")");
+                continue;
             }
-        }
-        // last field
-        result.add(current.toString());
 
-        return result.toArray(new String[0]);
+            try {
+                int id = csv.getInt(0);
+                String text = csv.getTrimmed(1);
+                int difficulty = csv.getInt(2);
+                String optA = csv.getTrimmed(3);
+                String optB = csv.getTrimmed(4);
+                String optC = csv.getTrimmed(5);
+                String optD = csv.getTrimmed(6);
+                String correct = csv.getTrimmed(7);
+
+                loaded.add(new Questions(id, text, difficulty, optA, optB, optC, optD, correct));
+            } catch (NumberFormatException e) {
+                System.out.println("Skipping bad record at line " + csv.getLineNumber() + " (parse error)");
+            }
+        }
     }
 
 
 
     // Write the current in-memory list back to CSV
     public static void saveQuestions() {
-        try {
-            // Determine save path:
-            // - In IDE: save to src/csvFiles/Questions.csv
-            // - In JAR: save to ~/.hawk/Questions.csv
-            String savePath = CSV_PATH;
+        saveQuestions(questionsSavePath());
+    }
+
+    // writes the newest question list to savePath. the list is read while holding the lock, so
+    // a save that waited for another one can't write an older list over the newer one
+    static void saveQuestions(String savePath) {
+        synchronized (QUESTIONS_FILE_LOCK) {
+            writeQuestions(questionStore.get().questions, savePath);
+        }
+    }
+
+    // Determine save path:
+    // - In IDE: save to src/csvFiles/Questions.csv
+    // - In JAR: save to ~/.hawk/Questions.csv
+    private static String questionsSavePath() {
+        String savePath = CSV_PATH;
+        
+        File csvFile = new File(CSV_PATH);
+        // Only redirect to user home if CSV_PATH doesn't exist AND we're not in IDE
+        if (!csvFile.exists()) {
+            String userHome = System.getProperty("user.home");
+            String questionsDir = new File(userHome, ".hawk").getAbsolutePath();
+            savePath = new File(questionsDir, "Questions.csv").getAbsolutePath();
             
-            File csvFile = new File(CSV_PATH);
-            // Only redirect to user home if CSV_PATH doesn't exist AND we're not in IDE
-            if (!csvFile.exists()) {
-                String userHome = System.getProperty("user.home");
-                String questionsDir = new File(userHome, ".hawk").getAbsolutePath();
-                savePath = new File(questionsDir, "Questions.csv").getAbsolutePath();
-                
-                // Ensure directory exists
-                File parentDir = new File(savePath).getParentFile();
-                if (parentDir != null && !parentDir.exists()) {
-                    parentDir.mkdirs();
-                }
+            // Ensure directory exists
+            File parentDir = new File(savePath).getParentFile();
+            if (parentDir != null && !parentDir.exists()) {
+                parentDir.mkdirs();
             }
-            
+        }
+        return savePath;
+    }
+
+    private static void writeQuestions(List<Questions> questionList, String savePath) {
+        try {
             System.out.println("=== SAVING QUESTIONS ===");
             System.out.println("CSV_PATH: " + CSV_PATH);
-            System.out.println("CSV_PATH exists: " + csvFile.exists());
+            System.out.println("CSV_PATH exists: " + new File(CSV_PATH).exists());
             System.out.println("Save path: " + savePath);
             System.out.println("Save path exists before: " + new File(savePath).exists());
             System.out.println("Number of questions to save: " + questionList.size());
@@ -306,13 +270,49 @@ public class SysData {
         loadQuestions();
     }
 
+    // current questions (read-only snapshot; change them through add/replace/removeQuestion)
     public static List<Questions> getAllQuestions() {
-        return questionList;
+        return questionStore.get().questions;
+    }
+
+    public static void addQuestion(Questions question) {
+        updateQuestions(list -> {
+            List<Questions> next = new ArrayList<>(list);
+            next.add(question);
+            return next;
+        });
+    }
+
+    // swaps an existing question (the same object as in getAllQuestions) for its edited copy
+    public static void replaceQuestion(Questions existing, Questions updated) {
+        updateQuestions(list -> {
+            List<Questions> next = new ArrayList<>(list);
+            for (int i = 0; i < next.size(); i++) {
+                if (next.get(i) == existing) {
+                    next.set(i, updated);
+                    break;
+                }
+            }
+            return next;
+        });
+    }
+
+    public static void removeQuestion(Questions question) {
+        updateQuestions(list -> {
+            List<Questions> next = new ArrayList<>(list);
+            next.removeIf(q -> q == question);
+            return next;
+        });
+    }
+
+    // publishes a new version of the list; retried if another writer got in first
+    private static void updateQuestions(UnaryOperator<List<Questions>> change) {
+        questionStore.updateAndGet(store -> new QuestionStore(change.apply(store.questions)));
     }
 
     public static int getNextQuestionId() {
         int max = 0;
-        for (Questions q : questionList) {
+        for (Questions q : getAllQuestions()) {
             if (q.getId() > max) {
                 max = q.getId();
             }
@@ -322,58 +322,21 @@ public class SysData {
 
     // ---------------- Game-time question usage ----------------
 
-    // Call at start of each new game - clear asked questions for fresh game
-    public static void resetAskedQuestions() {
-        for (int d = 1; d <= 4; d++) {
-            askedQuestionIds.get(d).clear();
-        }
+    // A fresh set of draws for a new game: every question is available again. Each game owns
+    // its session, so games running at the same time don't affect each other.
+    public static QuestionSession newQuestionSession() {
+        return new QuestionSession(questionBank());
     }
 
-    // Total questions with given difficulty in CSV
-    public static int getTotalQuestions(int difficulty) {
-        int count = 0;
-        for (Questions q : questionList) {
-            if (q.getDifficulty() == difficulty) {
-                count++;
-            }
+    // the bank of the current question list, built on first use of this version
+    private static QuestionBank questionBank() {
+        QuestionStore store = questionStore.get();
+        QuestionBank bank = store.bank;
+        if (bank == null) {
+            bank = new QuestionBank(store.questions);
+            store.bank = bank;
         }
-        return count;
-    }
-
-    // Remaining (not yet asked) questions for difficulty
-    public static int getRemainingQuestions(int difficulty) {
-        Set<Integer> asked = askedQuestionIds.get(difficulty);
-        if (asked == null) return 0;
-
-        int total = 0;
-        int askedHere = 0;
-        for (Questions q : questionList) {
-            if (q.getDifficulty() == difficulty) {
-                total++;
-                if (asked.contains(q.getId())) {
-                    askedHere++;
-                }
-            }
-        }
-        return total - askedHere;
-    }
-
-    // Get a random not-yet-asked question for difficulty, mark it as asked
-    public static Questions getRandomQuestion(int difficulty) {
-        List<Questions> candidates = new ArrayList<>();
-        Set<Integer> asked = askedQuestionIds.get(difficulty);
-        if (asked == null) return null;
-
-        for (Questions q : questionList) {
-            if (q.getDifficulty() == difficulty && !asked.contains(q.getId())) {
-                candidates.add(q);
-            }
-        }
-        if (candidates.isEmpty()) return null;
-
-        Questions chosen = candidates.get(new java.util.Random().nextInt(candidates.size()));
-        asked.add(chosen.getId());
-        return chosen;
+        return bank;
     }
     
     // ----------------  History Management ----------------
@@ -381,30 +344,39 @@ public class SysData {
     // Add a game history record and save to CSV
     public static void addHistory(History history) {
         if (history != null) {
-            historyList.add(history);
+            historyStore.updateAndGet(list -> {
+                // one copy per append (the list can hold millions of rows): the old snapshot
+                // goes straight into an array with a free last slot, wrapped read-only
+                History[] next = list.toArray(new History[list.size() + 1]);
+                next[list.size()] = history;
+                return Collections.unmodifiableList(Arrays.asList(next));
+            });
             HistoryManager.writeHistory(history);
         }
     }
     
     // Reload all histories from CSV (useful when history has been updated externally)
     public static void reloadHistoriesFromCSV() {
-        historyList.clear();
-        historyList.addAll(HistoryManager.readAllHistories());
+        historyStore.set(List.copyOf(HistoryManager.readAllHistories()));
     }
     
-    // Get all game histories (loads from CSV if list is empty, otherwise returns cached list)
+    // Get all game histories (loads from CSV if list is empty, otherwise returns cached list).
+    // The list is a read-only snapshot.
     public static List<History> getAllHistories() {
-        if (historyList.isEmpty()) {
-            historyList.addAll(HistoryManager.readAllHistories());
+        List<History> histories = historyStore.get();
+        if (histories.isEmpty()) {
+            List<History> loaded = List.copyOf(HistoryManager.readAllHistories());
+            // keep whatever another thread published meanwhile
+            histories = historyStore.compareAndSet(histories, loaded) ? loaded : historyStore.get();
         }
-        return new ArrayList<>(historyList);
+        return histories;
     }
     
     // Get histories for a specific user
     public static List<History> getHistoriesForUser(String username) {
         List<History> userHistories = new ArrayList<>();
         if (username != null) {
-            for (History h : historyList) {
+            for (History h : historyStore.get()) {
                 if (username.equalsIgnoreCase(h.getUsername())) {
                     userHistories.add(h);
                 }
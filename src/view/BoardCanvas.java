@@ -0,0 +1,453 @@
+package view;
+
+import controller.IGameBoardController;
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.function.BooleanSupplier;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
+import model.Board;
+import model.Cell;
+import model.IconCache;
+
+/**
+ * One player's board as a single component. Cells are painted straight from the Board
+ * (no JButton per cell), clicks are mapped back to (row, col) here, and a changed cell only
+ * repaints its own rectangle, so even boards with thousands of cells stay cheap to draw.
+ *
+ * Normally the cells are sized to fill the component. Boards too big for that are shown
+ * zoomed inside a JScrollPane (see {@link #setZoom(int)}): the cell size is fixed, Ctrl +
+ * mouse wheel zooms around the pointer, and painting only ever touches the cells in the
+ * visible part, so paint time depends on the viewport, not on the board.
+ */
+public class BoardCanvas extends JComponent implements Scrollable {
+
+    static final int CELL_SIZE = 40; // preferred size of one cell, in pixels
+    static final int MIN_ZOOM = 4;   // smallest cell size while zoomed
+    static final int MAX_ZOOM = 64;
+    private static final int GAP = 1;  // grid line between cells, in the background color
+    private static final int DETAIL_SIZE = 12; // smaller cells are drawn as plain colored squares
+
+    private static final int CELL_ICON_SIZE = 32;
+    private static final int QUESTION_ICON_SIZE = 24;
+    private static final String BOMB_ICON = "/resources/bomb.png";
+    private static final String FLAG_ICON = "/resources/falg.png";
+    private static final String QUESTION_ICON = "/resources/question.png";
+    private static final String SURPRISE_ICON = "/resources/gift.png";
+
+    private static final Color COLOR_HIDDEN = new Color(60, 80, 95);
+    private static final Color COLOR_MINE = new Color(220, 50, 50);
+    private static final Color COLOR_SURPRISE = new Color(180, 100, 255);
+    private static final Color COLOR_SURPRISE_DARK = new Color(120, 60, 200);  // darker S after pass
+    private static final Color COLOR_QUESTION = new Color(255, 215, 0);
+    private static final Color COLOR_QUESTION_ATTEMPTED = new Color(200, 170, 0);
+    private static final Color COLOR_SAFE = new Color(140, 200, 140);
+    private static final Color COLOR_EMPTY = new Color(200, 220, 200);
+    private static final Color COLOR_FLAGGED = new Color(90, 110, 130);
+
+    private static final Color BORDER_HIDDEN = new Color(40, 50, 60);
+    private static final Color BORDER_REVEALED = new Color(30, 30, 30);
+    private static final Color BORDER_HOVER = new Color(100, 200, 150);
+    private static final Color BORDER_DETECTED = new Color(255, 50, 50);
+
+    private final int rows;
+    private final int cols;
+    private final Font font;
+    private final BooleanSupplier metalDetectorActive;
+
+    private Board board;
+    private int hoverRow = -1;
+    private int hoverCol = -1;
+    private int zoom;            // fixed cell size (incl. grid line) while zoomed, 0 = fit the component
+    private JComponent minimap;  // repainted along with the cells, if there is one
+
+    public BoardCanvas(IGameBoardController controller, int playerNum, int rows, int cols,
+                       BooleanSupplier metalDetectorActive) {
+        this.rows = rows;
+        this.cols = cols;
+        this.metalDetectorActive = metalDetectorActive;
+
+        int fontSize = switch (cols) {
+            case 9 -> 20;
+            case 13 -> 16;
+            case 16 -> 14;
+            default -> 16;
+        };
+        font = new Font("Tahoma", Font.BOLD, fontSize);
+
+        setOpaque(true);
+        setFocusable(false);
+        Dimension boardDim = new Dimension(cols * CELL_SIZE, rows * CELL_SIZE);
+        setPreferredSize(boardDim);
+        setMinimumSize(boardDim);
+        setMaximumSize(boardDim);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int[] cell = cellAt(e.getX(), e.getY());
+                if (cell == null) return;
+                if (SwingUtilities.isLeftMouseButton(e)) {
+                    controller.onCellClick(playerNum, cell[0], cell[1]);
+                } else if (SwingUtilities.isRightMouseButton(e)) {
+                    controller.onCellRightClick(playerNum, cell[0], cell[1]);
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                int[] cell = cellAt(e.getX(), e.getY());
+                if (cell == null) {
+                    setHover(-1, -1);
+                } else {
+                    setHover(cell[0], cell[1]);
+                }
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                setHover(-1, -1);
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (zoom > 0 && e.isControlDown()) {
+                    int step = Math.max(1, zoom / 4);
+                    setZoom(zoom - e.getWheelRotation() * step, e.getPoint());
+                } else if (getParent() != null) {
+                    // plain wheel keeps scrolling the enclosing scroll pane
+                    getParent().dispatchEvent(SwingUtilities.convertMouseEvent(BoardCanvas.this, e, getParent()));
+                }
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    // the board this canvas shows; repaints everything
+    public void setBoard(Board board) {
+        this.board = board;
+        repaint();
+        if (minimap != null) minimap.repaint();
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // call after the cell changed in the model; only its rectangle is repainted
+    public void repaintCell(int row, int col) {
+        int pitch = pitch();
+        repaint(originX(pitch) + col * pitch, originY(pitch) + row * pitch, pitch, pitch);
+        if (minimap != null) minimap.repaint();
+    }
+
+    // call after too many cells changed to repaint one by one; only the visible part is painted
+    public void repaintBoard() {
+        repaint();
+        if (minimap != null) minimap.repaint();
+    }
+
+    void setMinimap(JComponent minimap) {
+        this.minimap = minimap;
+    }
+
+    // ---------- zoom + scrolling ----------
+
+    /**
+     * Switches to a fixed cell size of {@code cellPixels} (clamped to MIN_ZOOM..MAX_ZOOM);
+     * the component then grows to the whole board and is meant to sit in a JScrollPane.
+     */
+    public void setZoom(int cellPixels) {
+        setZoom(cellPixels, null);
+    }
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    // zooms keeping the board point under anchor (canvas coordinates) where it is on screen
+    private void setZoom(int cellPixels, Point anchor) {
+        int newZoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, cellPixels));
+        if (newZoom == zoom) return;
+
+        Rectangle visible = getVisibleRect();
+        Point focus = (anchor != null) ? anchor
+                : new Point(visible.x + visible.width / 2, visible.y + visible.height / 2);
+        double fx = (focus.x - (double) visible.x);
+        double fy = (focus.y - (double) visible.y);
+        double boardX = (zoom > 0) ? (double) focus.x / zoom : 0;
+        double boardY = (zoom > 0) ? (double) focus.y / zoom : 0;
+
+        zoom = newZoom;
+        Insets in = getInsets();
+        Dimension size = new Dimension(cols * zoom + in.left + in.right, rows * zoom + in.top + in.bottom);
+        setPreferredSize(size);
+        setMinimumSize(size);
+        setMaximumSize(size);
+        setSize(size);
+        revalidate();
+
+        // put the same board point back under the pointer (or the middle of the view)
+        int viewX = (int) Math.round(boardX * zoom - fx);
+        int viewY = (int) Math.round(boardY * zoom - fy);
+        scrollRectToVisible(new Rectangle(Math.max(0, viewX), Math.max(0, viewY), visible.width, visible.height));
+        repaint();
+        if (minimap != null) minimap.repaint();
+    }
+
+    // centers the visible part on a cell (used by the minimap)
+    public void scrollToCell(int row, int col) {
+        Rectangle visible = getVisibleRect();
+        int pitch = pitch();
+        int x = originX(pitch) + col * pitch + pitch / 2 - visible.width / 2;
+        int y = originY(pitch) + row * pitch + pitch / 2 - visible.height / 2;
+        scrollRectToVisible(new Rectangle(Math.max(0, x), Math.max(0, y), visible.width, visible.height));
+    }
+
+    // the cells currently on screen, as (col, row, width, height) in cells
+    public Rectangle getVisibleCells() {
+        Rectangle visible = getVisibleRect();
+        int pitch = pitch();
+        int firstCol = Math.max(0, Math.floorDiv(visible.x - originX(pitch), pitch));
+        int firstRow = Math.max(0, Math.floorDiv(visible.y - originY(pitch), pitch));
+        int lastCol = Math.min(cols - 1, Math.floorDiv(visible.x + visible.width - 1 - originX(pitch), pitch));
+        int lastRow = Math.min(rows - 1, Math.floorDiv(visible.y + visible.height - 1 - originY(pitch), pitch));
+        return new Rectangle(firstCol, firstRow, Math.max(0, lastCol - firstCol + 1), Math.max(0, lastRow - firstRow + 1));
+    }
+
+    // a zoomed board asks for at most a screenful; the scroll pane does the rest
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        Dimension preferred = getPreferredSize();
+        if (zoom == 0) return preferred;
+        int max = 16 * CELL_SIZE;
+        return new Dimension(Math.min(preferred.width, max), Math.min(preferred.height, max));
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return pitch();
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int extent = (orientation == SwingConstants.HORIZONTAL) ? visibleRect.width : visibleRect.height;
+        return Math.max(pitch(), extent - pitch());
+    }
+
+    // not zoomed: behave like a normal component and take whatever size the viewport has
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return zoom == 0;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return zoom == 0;
+    }
+
+    // ---------- geometry ----------
+
+    // cell size plus the grid line; cells shrink with the component, like a GridLayout would
+    int pitch() {
+        if (zoom > 0) return zoom;
+        Insets in = getInsets();
+        int width = getWidth() - in.left - in.right;
+        int height = getHeight() - in.top - in.bottom;
+        return Math.max(1, Math.min(width / cols, height / rows));
+    }
+
+    // leftover pixels are split evenly around the grid
+    private int originX(int pitch) {
+        Insets in = getInsets();
+        return in.left + (getWidth() - in.left - in.right - pitch * cols) / 2;
+    }
+
+    private int originY(int pitch) {
+        Insets in = getInsets();
+        return in.top + (getHeight() - in.top - in.bottom - pitch * rows) / 2;
+    }
+
+    // {row, col} under the point, or null outside the grid
+    private int[] cellAt(int x, int y) {
+        int pitch = pitch();
+        int col = Math.floorDiv(x - originX(pitch), pitch);
+        int row = Math.floorDiv(y - originY(pitch), pitch);
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return null;
+        return new int[]{row, col};
+    }
+
+    private void setHover(int row, int col) {
+        if (row == hoverRow && col == hoverCol) return;
+        if (hoverRow >= 0) repaintCell(hoverRow, hoverCol);
+        hoverRow = row;
+        hoverCol = col;
+        if (row >= 0) repaintCell(row, col);
+
+        // crosshair over a mine while the metal detector runs
+        Cell cell = (row >= 0 && board != null) ? board.getCell(row, col) : null;
+        boolean detected = cell != null && metalDetectorActive.getAsBoolean() && cell.isMine() && cell.isHidden();
+        setCursor(detected ? Cursor.getPredefinedCursor(Cursor.CROSSHAIR_CURSOR) : Cursor.getDefaultCursor());
+    }
+
+    // ---------- painting ----------
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Graphics2D g2 = (Graphics2D) g;
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) clip = new Rectangle(0, 0, getWidth(), getHeight());
+
+        g2.setColor(getBackground());
+        g2.fillRect(clip.x, clip.y, clip.width, clip.height);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setFont(font);
+
+        // only the cells the clip touches
+        int pitch = pitch();
+        int x0 = originX(pitch);
+        int y0 = originY(pitch);
+        int firstRow = Math.max(0, Math.floorDiv(clip.y - y0, pitch));
+        int lastRow = Math.min(rows - 1, Math.floorDiv(clip.y + clip.height - 1 - y0, pitch));
+        int firstCol = Math.max(0, Math.floorDiv(clip.x - x0, pitch));
+        int lastCol = Math.min(cols - 1, Math.floorDiv(clip.x + clip.width - 1 - x0, pitch));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                paintCell(g2, row, col, x0 + col * pitch, y0 + row * pitch, pitch - GAP);
+            }
+        }
+    }
+
+    // same look the old per-cell buttons had, by state + type
+    private void paintCell(Graphics2D g, int row, int col, int x, int y, int size) {
+        Cell cell = (board != null) ? board.getCell(row, col) : null;
+
+        Color background = COLOR_HIDDEN;
+        Color foreground = Color.WHITE;
+        Color border = BORDER_HIDDEN;
+        int borderWidth = 2;
+        String iconPath = null;
+        int iconSize = CELL_ICON_SIZE;
+        String text = "";
+        boolean clickable = true;
+
+        if (cell != null && cell.isRevealed()) {
+            border = BORDER_REVEALED;
+            borderWidth = 1;
+            if (cell.isMine()) {
+                background = COLOR_MINE;
+                iconPath = BOMB_ICON;
+                text = "M";
+                clickable = false;
+            } else if (cell.isQuestion()) {
+                // yellow question; after attempt we darken and lock it
+                background = cell.isQuestionAttempted() ? COLOR_QUESTION_ATTEMPTED : COLOR_QUESTION;
+                foreground = Color.BLACK;
+                iconPath = QUESTION_ICON;
+                iconSize = QUESTION_ICON_SIZE;
+                text = "Q";
+                clickable = !cell.isQuestionAttempted();
+            } else if (cell.isSurprise()) {
+                // darker after a pass, locked once activated
+                background = (cell.isSurprisePassed() && !cell.isReadyForSurprise()) ? COLOR_SURPRISE_DARK : COLOR_SURPRISE;
+                iconPath = SURPRISE_ICON;
+                text = "S";
+                clickable = !cell.isReadyForSurprise();
+            } else if (cell.getType() == Cell.CellType.NUMBER) {
+                background = COLOR_SAFE;
+                text = cell.getDisplayLabel();
+                foreground = getNumberColor(cell.getNeighborMines());
+                clickable = false;
+            } else {
+                background = COLOR_EMPTY;
+                clickable = false;
+            }
+        } else if (cell != null && cell.isFlagged()) {
+            // mine flagged by the safety net shows the bomb, anything else the flag
+            background = COLOR_FLAGGED;
+            foreground = Color.YELLOW;
+            iconPath = cell.isMine() ? BOMB_ICON : FLAG_ICON;
+            text = cell.isMine() ? "M" : "F";
+        }
+
+        if (clickable && row == hoverRow && col == hoverCol) {
+            if (cell != null && cell.isMine() && cell.isHidden() && metalDetectorActive.getAsBoolean()) {
+                border = BORDER_DETECTED;
+                borderWidth = 3;
+            } else {
+                border = BORDER_HOVER;
+                borderWidth = 2;
+            }
+        }
+
+        g.setColor(background);
+        g.fillRect(x, y, size, size);
+        if (size < DETAIL_SIZE) {
+            // zoomed far out: color only, with the hover/detector color as a frame
+            if (clickable && row == hoverRow && col == hoverCol) {
+                g.setColor(border);
+                g.drawRect(x, y, size - 1, size - 1);
+            }
+            return;
+        }
+        g.setColor(border);
+        for (int i = 0; i < borderWidth; i++) {
+            g.drawRect(x + i, y + i, size - 1 - 2 * i, size - 1 - 2 * i);
+        }
+
+        // icons shrink with the cell when the board is squeezed
+        ImageIcon icon = null;
+        int drawSize = Math.min(iconSize, size - 2 * borderWidth);
+        if (iconPath != null && drawSize > 0) {
+            icon = IconCache.get(iconPath, drawSize, drawSize);
+        }
+        if (icon != null) {
+            icon.paintIcon(this, g, x + (size - drawSize) / 2, y + (size - drawSize) / 2);
+        } else if (!text.isEmpty()) {
+            FontMetrics metrics = g.getFontMetrics();
+            g.setColor(foreground);
+            g.drawString(text, x + (size - metrics.stringWidth(text)) / 2,
+                    y + (size - metrics.getHeight()) / 2 + metrics.getAscent());
+        }
+    }
+
+    // map number of neighbors to a classic Minesweeper color
+    private static Color getNumberColor(int num) {
+        return switch (num) {
+            case 1 -> Color.BLUE;
+            case 2 -> new Color(0, 128, 0);
+            case 3 -> Color.RED;
+            case 4 -> new Color(0, 0, 128);
+            case 5 -> new Color(128, 0, 0);
+            case 6 -> new Color(0, 128, 128);
+            case 8 -> Color.GRAY;
+            default -> Color.BLACK;
+        };
+    }
+}
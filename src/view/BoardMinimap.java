@@ -0,0 +1,132 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ChangeListener;
+import model.Board;
+import model.Cell;
+
+/**
+ * Small overview of a zoomed BoardCanvas: one pixel per block of cells (the block's top-left
+ * cell stands in for it, so drawing costs one cell read per pixel however big the board is),
+ * with the part currently on screen outlined. Clicking or dragging on it moves the view there.
+ */
+public class BoardMinimap extends JComponent {
+
+    private static final int HIDDEN_RGB = 0xFF3C505F;
+    private static final int FLAGGED_RGB = 0xFFFFD000;
+    private static final int MINE_RGB = 0xFFDC3232;
+    private static final int SPECIAL_RGB = 0xFFB464FF;
+    private static final int OPEN_RGB = 0xFFC8DCC8;
+    private static final Color VIEW_OUTLINE = new Color(57, 255, 20);
+
+    private final BoardCanvas canvas;
+    private final ChangeListener viewportMoved = e -> repaint();
+    private JViewport viewport; // the one viewportMoved is registered with, while displayable
+    private BufferedImage image;
+
+    public BoardMinimap(BoardCanvas canvas, int maxSize) {
+        this.canvas = canvas;
+
+        // keep the board's aspect ratio inside maxSize x maxSize
+        int rows = canvas.getRows();
+        int cols = canvas.getCols();
+        int width = (cols >= rows) ? Math.min(maxSize, cols) : Math.max(1, (int) ((long) Math.min(maxSize, rows) * cols / rows));
+        int height = (rows >= cols) ? Math.min(maxSize, rows) : Math.max(1, (int) ((long) Math.min(maxSize, cols) * rows / cols));
+        Dimension size = new Dimension(width, height);
+        setPreferredSize(size);
+        setMinimumSize(size);
+        setMaximumSize(size);
+        setOpaque(true);
+
+        canvas.setMinimap(this);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                jumpTo(e.getX(), e.getY());
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                jumpTo(e.getX(), e.getY());
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        // scrolling the board moves the outline
+        viewport = (JViewport) SwingUtilities.getAncestorOfClass(JViewport.class, canvas);
+        if (viewport != null) {
+            viewport.addChangeListener(viewportMoved);
+        }
+    }
+
+    @Override
+    public void removeNotify() {
+        if (viewport != null) {
+            viewport.removeChangeListener(viewportMoved);
+            viewport = null;
+        }
+        super.removeNotify();
+    }
+
+    private void jumpTo(int x, int y) {
+        int row = (int) Math.min(canvas.getRows() - 1L, Math.max(0L, (long) y * canvas.getRows() / getHeight()));
+        int col = (int) Math.min(canvas.getCols() - 1L, Math.max(0L, (long) x * canvas.getCols() / getWidth()));
+        canvas.scrollToCell(row, col);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) return;
+
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        Board board = canvas.getBoard();
+        int rows = canvas.getRows();
+        int cols = canvas.getCols();
+        for (int y = 0; y < height; y++) {
+            int row = (int) ((long) y * rows / height);
+            for (int x = 0; x < width; x++) {
+                int col = (int) ((long) x * cols / width);
+                pixels[y * width + x] = (board == null) ? HIDDEN_RGB : colorOf(board.getCell(row, col));
+            }
+        }
+        g.drawImage(image, 0, 0, null);
+
+        // outline of what the board view shows right now
+        Rectangle cells = canvas.getVisibleCells();
+        int x0 = (int) ((long) cells.x * width / cols);
+        int y0 = (int) ((long) cells.y * height / rows);
+        int x1 = (int) ((long) (cells.x + cells.width) * width / cols);
+        int y1 = (int) ((long) (cells.y + cells.height) * height / rows);
+        g.setColor(VIEW_OUTLINE);
+        g.drawRect(x0, y0, Math.max(1, x1 - x0 - 1), Math.max(1, y1 - y0 - 1));
+    }
+
+    private static int colorOf(Cell cell) {
+        if (cell.isFlagged()) return FLAGGED_RGB;
+        if (!cell.isRevealed()) return HIDDEN_RGB;
+        if (cell.isMine()) return MINE_RGB;
+        if (cell.isQuestion() || cell.isSurprise()) return SPECIAL_RGB;
+        return OPEN_RGB;
+    }
+}
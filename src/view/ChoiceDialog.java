@@ -0,0 +1,210 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.swing.BorderFactory;
+import javax.swing.Box;
+import javax.swing.BoxLayout;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+
+/**
+ * The game's dark "pick one" dialogs: a heading, an optional status line (the question
+ * countdown) and a column of buttons. One kind per situation (question or pass, surprise or
+ * pass, question difficulty, the question itself), each with a fixed number of buttons.
+ *
+ * Like StyledDialog, each kind is built once and reused: showing it again only swaps the
+ * texts, colours and actions. The button actions decide when the dialog goes away, by
+ * calling close(). Must be used on the event dispatch thread.
+ */
+public class ChoiceDialog extends JDialog {
+
+    public enum Kind {
+        QUESTION_CHOICE(2, 400, 200, 300, 10, 14, 15),
+        SURPRISE_CHOICE(2, 400, 240, 300, 10, 16, 20),
+        QUESTION_DIFFICULTY(4, 420, 360, 350, 10, 14, 20),
+        QUESTION(4, 800, 420, 350, 5, 14, 15);
+
+        final int buttons;
+        final int width;
+        final int height;
+        final int buttonWidth; // at least; wider when a button's text needs it
+        final int gap;
+        final Font headingFont;
+        final int padding;
+
+        Kind(int buttons, int width, int height, int buttonWidth, int gap, int headingSize, int padding) {
+            this.buttons = buttons;
+            this.width = width;
+            this.height = height;
+            this.buttonWidth = buttonWidth;
+            this.gap = gap;
+            this.headingFont = new Font("Tahoma", Font.BOLD, headingSize);
+            this.padding = padding;
+        }
+    }
+
+    /**
+     * One button: its text, colour, whether it can be pressed, and what it does.
+     */
+    public record Choice(String text, Color color, boolean enabled, Runnable action) {
+        public Choice(String text, Color color, Runnable action) {
+            this(text, color, true, action);
+        }
+    }
+
+    private static final Map<Kind, ChoiceDialog> DIALOGS = new EnumMap<>(Kind.class);
+
+    private static final Color BACKGROUND = new Color(15, 25, 30);
+    private static final Color DISABLED_BUTTON = new Color(80, 100, 90);
+    private static final Color DISABLED_TEXT = new Color(150, 150, 150);
+    private static final Color STATUS_COLOR = new Color(100, 255, 100);
+    private static final Font BUTTON_FONT = new Font("Tahoma", Font.BOLD, 13);
+    private static final Font STATUS_FONT = new Font("Tahoma", Font.BOLD, 20);
+
+    private final Kind kind;
+    private final JLabel heading = new JLabel("", SwingConstants.CENTER);
+    private final JLabel status = new JLabel("");
+    private final Component statusGap = Box.createVerticalStrut(8);
+    private final JButton[] buttons;
+    private final Runnable[] actions;
+    private Runnable onClose;
+
+    /**
+     * The dialog of this kind, to set up with display(); a throwaway one if the cached one is
+     * already on screen.
+     */
+    public static ChoiceDialog obtain(Kind kind) {
+        ChoiceDialog dialog = DIALOGS.get(kind);
+        if (dialog == null) {
+            dialog = new ChoiceDialog(kind);
+            DIALOGS.put(kind, dialog);
+        } else if (dialog.isShowing()) {
+            dialog = new ChoiceDialog(kind);
+        }
+        return dialog;
+    }
+
+    private ChoiceDialog(Kind kind) {
+        this.kind = kind;
+        this.buttons = new JButton[kind.buttons];
+        this.actions = new Runnable[kind.buttons];
+        setModal(true);
+        setResizable(false);
+        setSize(kind.width, kind.height);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                Runnable callback = onClose;
+                close();
+                if (callback != null) {
+                    callback.run();
+                }
+            }
+        });
+
+        JPanel mainPanel = new JPanel();
+        mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
+        mainPanel.setBackground(BACKGROUND);
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(kind.padding, 20, kind.padding, 20));
+
+        heading.setFont(kind.headingFont);
+        heading.setAlignmentX(Component.CENTER_ALIGNMENT);
+        mainPanel.add(heading);
+        mainPanel.add(Box.createVerticalStrut(kind == Kind.QUESTION ? 10 : 20));
+
+        status.setFont(STATUS_FONT);
+        status.setForeground(STATUS_COLOR);
+        status.setAlignmentX(Component.CENTER_ALIGNMENT);
+        mainPanel.add(status);
+        mainPanel.add(statusGap);
+
+        for (int i = 0; i < buttons.length; i++) {
+            int index = i;
+            JButton btn = new JButton();
+            btn.setFont(BUTTON_FONT);
+            btn.setFocusPainted(false);
+            btn.setAlignmentX(Component.CENTER_ALIGNMENT);
+            btn.setHorizontalAlignment(SwingConstants.CENTER);
+            btn.addActionListener(e -> {
+                Runnable action = actions[index];
+                if (action != null) {
+                    action.run();
+                }
+            });
+            if (i > 0) mainPanel.add(Box.createVerticalStrut(kind.gap));
+            mainPanel.add(btn);
+            buttons[i] = btn;
+        }
+        setContentPane(mainPanel);
+    }
+
+    /**
+     * Fill in the dialog and show it (blocks until it is closed, it's modal).
+     *
+     * @param headingHtml   heading text, may contain html line breaks
+     * @param statusText    line under the heading, or null for none (see setStatus)
+     * @param onClosed      runs when the window is closed without a choice; may be null
+     * @param choices       exactly one per button of this kind
+     */
+    public void display(String title, String headingHtml, Color headingColor, String statusText,
+                        Runnable onClosed, Choice... choices) {
+        if (choices.length != buttons.length) {
+            throw new IllegalArgumentException(kind + " has " + buttons.length + " buttons, got " + choices.length);
+        }
+        setTitle(title);
+        heading.setText("<html>" + headingHtml + "</html>");
+        heading.setForeground(headingColor);
+        setStatus(statusText);
+        onClose = onClosed;
+
+        FontMetrics fm = getFontMetrics(BUTTON_FONT);
+        int width = kind.buttonWidth;
+        for (Choice choice : choices) {
+            width = Math.max(width, fm.stringWidth(choice.text()) + 30);
+        }
+        for (int i = 0; i < buttons.length; i++) {
+            Choice choice = choices[i];
+            JButton btn = buttons[i];
+            btn.setText(choice.text());
+            btn.setEnabled(choice.enabled());
+            btn.setBackground(choice.enabled() ? choice.color() : DISABLED_BUTTON);
+            btn.setForeground(choice.enabled() ? Color.WHITE : DISABLED_TEXT);
+            btn.setPreferredSize(new Dimension(width, 40));
+            btn.setMaximumSize(new Dimension(width, 40));
+            actions[i] = choice.action();
+        }
+
+        setLocationRelativeTo(null);
+        setVisible(true);
+    }
+
+    // changes the status line (e.g. the countdown); null hides it
+    public void setStatus(String text) {
+        status.setVisible(text != null);
+        statusGap.setVisible(text != null);
+        if (text != null) status.setText(text);
+    }
+
+    // hides the dialog (throwaway ones are disposed) and forgets its actions
+    public void close() {
+        onClose = null;
+        Arrays.fill(actions, null);
+        setVisible(false);
+        if (DIALOGS.get(kind) != this) {
+            dispose();
+        }
+    }
+}
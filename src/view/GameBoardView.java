@@ -2,18 +2,13 @@ package view;
 
 import controller.IGameBoardController;
 import java.awt.*;
-import java.awt.event.MouseAdapter;
-import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.Border;
 import javax.swing.border.LineBorder;
 import model.Cell;
 import model.GameObserver;
-import model.ResourceLoader;
+import model.IconCache;
 
 public class GameBoardView implements GameObserver {
 
@@ -25,13 +20,12 @@ public class GameBoardView implements GameObserver {
     private JFrame frame;
     private final IGameBoardController controller;
 
-    private JPanel boardPanel1;
-    private JPanel boardPanel2;
+    private BoardCanvas boardPanel1;
+    private BoardCanvas boardPanel2;
+    private ToastLayer toasts;  // non-modal notifications over the window
     private JPanel infoPanelRef;  // Reference to info panel for border updates
     private JPanel centerSidebarPanelRef;  // Reference to sidebar panel for border updates
 
-    private final JButton[][] cellButtons1;
-    private final JButton[][] cellButtons2;
 
     private JLabel player1NameLabel;
     private JLabel player2NameLabel;
@@ -68,6 +62,8 @@ public class GameBoardView implements GameObserver {
     };
     private BufferedImage player1CharIcon;
     private BufferedImage player2CharIcon;
+    private String player1CharPath;
+    private String player2CharPath;
     private JLabel player1CharLabel;
     private JLabel player2CharLabel;
     private JLabel stabilizerLabel;
@@ -88,31 +84,32 @@ public class GameBoardView implements GameObserver {
     private int maxLives = 0;  // Track max lives to display empty hearts for lost lives
     
     // Game cell icons
-    private BufferedImage bombIcon;
     private BufferedImage flagIcon;
-    private BufferedImage questionIcon;
-    private BufferedImage surpriseIcon;
     private BufferedImage metalDetectorIcon;
     private BufferedImage safetyNetIcon;
     private BufferedImage pauseIcon;
     private BufferedImage exitIcon;
-    private static final int CELL_ICON_SIZE = 32;
-    private static final int QUESTION_ICON_SIZE = 24;
+
+    // icon resources; scaled copies come from the shared IconCache
+    private static final String HEALTH_ICON = "/resources/poisoned_hardcore_full.png";
+    private static final String EMPTY_HEART_ICON = "/resources/emptyheart.png";
+    private static final String FLAG_ICON = "/resources/falg.png";
+    private static final String METAL_DETECTOR_ICON = "/resources/metaldetector.png";
+    private static final String SAFETY_NET_ICON = "/resources/net.png";
+    private static final String PAUSE_ICON = "/resources/pause-button.png";
+    private static final String EXIT_ICON = "/resources/exit.png";
+    private static final String STABILIZER_ICON = "/resources/defibrillator.png";
     private static final int BUTTON_ICON_SIZE = 20;
+
+    // boards wider than this scroll and zoom instead of being squeezed into the window
+    // (none of the difficulties the game offers is, they top out at 16x16)
+    private static final int MAX_FITTED_BOARD_SIZE = 24;
+    private static final int ZOOMED_CELL_SIZE = 24;
+    private static final int MINIMAP_SIZE = 120;
     
     // Stabilizer state tracking
     private boolean stabilizerAvailable = false;
 
-    // Colors
-    private static final Color COLOR_HIDDEN = new Color(60, 80, 95);
-    private static final Color COLOR_MINE = new Color(220, 50, 50);
-    private static final Color COLOR_SURPRISE = new Color(180, 100, 255);
-    private static final Color COLOR_SURPRISE_DARK = new Color(120, 60, 200);  // darker S after pass
-    private static final Color COLOR_QUESTION = new Color(255, 215, 0);
-    private static final Color COLOR_QUESTION_ATTEMPTED = new Color(200, 170, 0);
-    private static final Color COLOR_SAFE = new Color(140, 200, 140);
-    private static final Color COLOR_FLAGGED = new Color(90, 110, 130);
-
     // Neon theme
     private static final Color NEON_GREEN = new Color(57, 255, 20); // P1
     private static final Color NEON_ORANGE = new Color(255, 140, 0); // P2
@@ -144,8 +141,6 @@ public class GameBoardView implements GameObserver {
         this.controller = controller;
         // if boardSize is 0 we default to 9x9
         this.boardSize = (boardSize == 0) ? 9 : boardSize;
-        this.cellButtons1 = new JButton[this.boardSize][this.boardSize];
-        this.cellButtons2 = new JButton[this.boardSize][this.boardSize];
         loadCharacterIcons(player1CharIndex, player2CharIndex);
         initialize(player1Name, player2Name);
     }
@@ -155,6 +150,7 @@ public class GameBoardView implements GameObserver {
     }
 
     public void close() {
+        toasts.clear();
         frame.setVisible(false);
         frame.dispose();
     }
@@ -193,6 +189,9 @@ public class GameBoardView implements GameObserver {
         mainPanel.setLayout(new BorderLayout(0, 15));
         frame.setContentPane(mainPanel);
 
+        toasts = new ToastLayer();
+        frame.getLayeredPane().add(toasts, JLayeredPane.POPUP_LAYER);
+
         JPanel topWrapper = new JPanel(new BorderLayout());
         topWrapper.setOpaque(false);
         topWrapper.setBorder(BorderFactory.createEmptyBorder(20, 30, 10, 30));
@@ -219,8 +218,7 @@ public class GameBoardView implements GameObserver {
         p1CharHeaderPanel.setOpaque(false);
         player1CharLabel = new JLabel();
         if (player1CharIcon != null) {
-            Image scaledChar = player1CharIcon.getScaledInstance(CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE, Image.SCALE_SMOOTH);
-            player1CharLabel.setIcon(new ImageIcon(scaledChar));
+            player1CharLabel.setIcon(IconCache.get(player1CharPath, CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE));
         }
         p1CharHeaderPanel.add(player1CharLabel);
         centerPanel.add(p1CharHeaderPanel, gbc);
@@ -230,8 +228,7 @@ public class GameBoardView implements GameObserver {
         p2CharHeaderPanel.setOpaque(false);
         player2CharLabel = new JLabel();
         if (player2CharIcon != null) {
-            Image scaledChar = player2CharIcon.getScaledInstance(CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE, Image.SCALE_SMOOTH);
-            player2CharLabel.setIcon(new ImageIcon(scaledChar));
+            player2CharLabel.setIcon(IconCache.get(player2CharPath, CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE));
         }
         p2CharHeaderPanel.add(player2CharLabel);
         centerPanel.add(p2CharHeaderPanel, gbc);
@@ -266,7 +263,7 @@ public class GameBoardView implements GameObserver {
         board1Wrapper.setFocusable(false);
         board1Wrapper.setFocusTraversalPolicyProvider(false);
 
-        boardPanel1 = new JPanel(new GridLayout(boardSize, boardSize, 1, 1));
+        boardPanel1 = new BoardCanvas(controller, 1, boardSize, boardSize, this::isMetalDetectorActive);
         boardPanel1.setBackground(new Color(20, 20, 20));
         boardPanel1.setBorder(new LineBorder(new Color(30, 30, 30), 2));
         boardPanel1.setFocusable(false);
@@ -282,7 +279,7 @@ public class GameBoardView implements GameObserver {
             innerGbc.weightx = 1.0;
             innerGbc.weighty = 1.0;
         }
-        board1Wrapper.add(boardPanel1, innerGbc);
+        board1Wrapper.add(wrapForSize(boardPanel1), innerGbc);
 
         // Set fixed size for HARD, flexible for others
         if (gameDifficulty == model.Board.Difficulty.HARD) {
@@ -292,8 +289,6 @@ public class GameBoardView implements GameObserver {
         }
 
         player1Container.add(board1Wrapper, BorderLayout.CENTER);
-        // create all buttons for player 1 and hook up mouse events to controller
-        initializeBoardButtons(boardPanel1, cellButtons1, 1);
         centerPanel.add(player1Container, gbc);
 
         // Center sidebar panel with control buttons (between the two boards)
@@ -321,8 +316,7 @@ public class GameBoardView implements GameObserver {
         // Pause button in center sidebar
         JButton sidebarPauseBtn = new JButton("Pause");
         if (pauseIcon != null) {
-            Image scaledPauseIcon = pauseIcon.getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            sidebarPauseBtn.setIcon(new ImageIcon(scaledPauseIcon));
+            sidebarPauseBtn.setIcon(IconCache.get(PAUSE_ICON, 24, 24));
         }
         sidebarPauseBtn.setFont(new Font("Tahoma", Font.BOLD, 10));
         sidebarPauseBtn.setForeground(new Color(220, 235, 230));
@@ -344,8 +338,7 @@ public class GameBoardView implements GameObserver {
         // Exit button in center sidebar
         JButton sidebarExitBtn = new JButton("Exit");
         if (exitIcon != null) {
-            Image scaledExitIcon = exitIcon.getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            sidebarExitBtn.setIcon(new ImageIcon(scaledExitIcon));
+            sidebarExitBtn.setIcon(IconCache.get(EXIT_ICON, 24, 24));
         }
         sidebarExitBtn.setFont(new Font("Tahoma", Font.BOLD, 10));
         sidebarExitBtn.setForeground(new Color(220, 235, 230));
@@ -367,8 +360,7 @@ public class GameBoardView implements GameObserver {
         // Stabilizer button in center sidebar (bottom - doesn't appear in all difficulties)
         JButton sidebarStabilizerBtn = new JButton();
         if (stabilizerIcon != null) {
-            Image scaledStabilizer = stabilizerIcon.getScaledInstance(40, 40, Image.SCALE_SMOOTH);
-            sidebarStabilizerBtn.setIcon(new ImageIcon(scaledStabilizer));
+            sidebarStabilizerBtn.setIcon(IconCache.get(STABILIZER_ICON, 40, 40));
         }
         sidebarStabilizerBtn.setPreferredSize(new Dimension(60, 50));
         sidebarStabilizerBtn.setMaximumSize(new Dimension(60, 50));
@@ -399,8 +391,7 @@ public class GameBoardView implements GameObserver {
         // Flag icon
         JButton flagIconBtn = new JButton();
         if (flagIcon != null) {
-            Image scaledFlagIcon = flagIcon.getScaledInstance(35, 35, Image.SCALE_SMOOTH);
-            flagIconBtn.setIcon(new ImageIcon(scaledFlagIcon));
+            flagIconBtn.setIcon(IconCache.get(FLAG_ICON, 35, 35));
         }
         flagIconBtn.setPreferredSize(new Dimension(50, 40));
         flagIconBtn.setMaximumSize(new Dimension(50, 40));
@@ -450,11 +441,11 @@ public class GameBoardView implements GameObserver {
         board2Wrapper.setFocusable(false);
         board2Wrapper.setFocusTraversalPolicyProvider(false);
 
-        boardPanel2 = new JPanel(new GridLayout(boardSize, boardSize, 1, 1));
+        boardPanel2 = new BoardCanvas(controller, 2, boardSize, boardSize, this::isMetalDetectorActive);
         boardPanel2.setBackground(new Color(20, 20, 20));
         boardPanel2.setBorder(new LineBorder(new Color(30, 30, 30), 2));
         boardPanel2.setFocusable(false);
-        board2Wrapper.add(boardPanel2, innerGbc);
+        board2Wrapper.add(wrapForSize(boardPanel2), innerGbc);
 
         // Set fixed size for HARD, flexible for others
         if (gameDifficulty == model.Board.Difficulty.HARD) {
@@ -464,8 +455,6 @@ public class GameBoardView implements GameObserver {
         }
 
         player2Container.add(board2Wrapper, BorderLayout.CENTER);
-        // same for player 2 board
-        initializeBoardButtons(boardPanel2, cellButtons2, 2);
 
         centerPanel.add(player2Container, gbc);
         mainPanel.add(centerPanel, BorderLayout.CENTER);
@@ -508,10 +497,9 @@ public class GameBoardView implements GameObserver {
         
         // Add tier icon (tier1-3.png based on momentum)
         tierIconLabel = new JLabel();
-        java.awt.image.BufferedImage tierIcon = model.ResourceLoader.loadImage("/resources/tier1.png");
+        ImageIcon tierIcon = IconCache.get("/resources/tier1.png", 40, 40);
         if (tierIcon != null) {
-            Image scaledTier = tierIcon.getScaledInstance(40, 40, Image.SCALE_SMOOTH);
-            tierIconLabel.setIcon(new ImageIcon(scaledTier));
+            tierIconLabel.setIcon(tierIcon);
         }
         momentumPanel.add(tierIconLabel);
         
@@ -539,8 +527,7 @@ public class GameBoardView implements GameObserver {
         // Safety Net button
         safetyNetButton = new JButton("Safety Net (10 pts)");
         if (safetyNetIcon != null) {
-            Image scaledNetIcon = safetyNetIcon.getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            safetyNetButton.setIcon(new ImageIcon(scaledNetIcon));
+            safetyNetButton.setIcon(IconCache.get(SAFETY_NET_ICON, 24, 24));
         }
         safetyNetButton.setFont(new Font("Tahoma", Font.BOLD, 12));
         safetyNetButton.setForeground(new Color(220, 235, 230));
@@ -556,8 +543,7 @@ public class GameBoardView implements GameObserver {
         // Metal Detector button
         metalDetectorButton = new JButton("Metal Detector (15 pts)");
         if (metalDetectorIcon != null) {
-            Image scaledDetectorIcon = metalDetectorIcon.getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            metalDetectorButton.setIcon(new ImageIcon(scaledDetectorIcon));
+            metalDetectorButton.setIcon(IconCache.get(METAL_DETECTOR_ICON, 24, 24));
         }
         metalDetectorButton.setFont(new Font("Tahoma", Font.BOLD, 12));
         metalDetectorButton.setForeground(new Color(220, 235, 230));
@@ -659,8 +645,7 @@ public class GameBoardView implements GameObserver {
         gbc.insets = new Insets(0, 10, 0, 10);
         JButton stabilizerBtn = new JButton();
         if (stabilizerIcon != null) {
-            Image scaledStabilizer = stabilizerIcon.getScaledInstance(CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE, Image.SCALE_SMOOTH);
-            stabilizerBtn.setIcon(new ImageIcon(scaledStabilizer));
+            stabilizerBtn.setIcon(IconCache.get(STABILIZER_ICON, CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE));
         }
         stabilizerBtn.setPreferredSize(new Dimension(CHARACTER_DISPLAY_SIZE + 10, CHARACTER_DISPLAY_SIZE + 10));
         stabilizerBtn.setBorderPainted(true);
@@ -679,88 +664,47 @@ public class GameBoardView implements GameObserver {
         return panel;
     }
 
-    // Load the health icon from resources
+    // Load the health icons (shared through IconCache, so a new game doesn't re-read them)
     private void loadHealthIcon() {
-        try {
-            // Load filled heart icon
-            java.net.URL iconUrl = GameBoardView.class.getResource("/resources/poisoned_hardcore_full.png");
-            if (iconUrl != null) {
-                healthIcon = ImageIO.read(iconUrl);
-            } else {
-                // Fallback to file system (for IDE)
-                String iconPath = ResourceLoader.getResourcePath("/resources/poisoned_hardcore_full.png");
-                if (iconPath != null && !iconPath.isEmpty()) {
-                    healthIcon = ImageIO.read(new File(iconPath));
-                } else {
-                    System.err.println("Health icon not found");
-                }
-            }
-            
-            // Load empty heart icon
-            java.net.URL emptyIconUrl = GameBoardView.class.getResource("/resources/emptyheart.png");
-            if (emptyIconUrl != null) {
-                emptyHeartIcon = ImageIO.read(emptyIconUrl);
-            } else {
-                // Fallback to file system (for IDE)
-                String emptyIconPath = ResourceLoader.getResourcePath("/resources/emptyheart.png");
-                if (emptyIconPath != null && !emptyIconPath.isEmpty()) {
-                    emptyHeartIcon = ImageIO.read(new File(emptyIconPath));
-                } else {
-                    System.err.println("Empty heart icon not found");
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Could not load health icons: " + e.getMessage());
+        healthIcon = IconCache.getImage(HEALTH_ICON);
+        if (healthIcon == null) {
+            System.err.println("Health icon not found");
+        }
+        emptyHeartIcon = IconCache.getImage(EMPTY_HEART_ICON);
+        if (emptyHeartIcon == null) {
+            System.err.println("Empty heart icon not found");
         }
     }
 
     // Load all game cell icons from resources
     private void loadGameIcons() {
-        try {
-            bombIcon = loadIcon("/resources/bomb.png");
-            flagIcon = loadIcon("/resources/falg.png");
-            questionIcon = loadIcon("/resources/question.png");
-            surpriseIcon = loadIcon("/resources/gift.png");
-            metalDetectorIcon = loadIcon("/resources/metaldetector.png");
-            safetyNetIcon = loadIcon("/resources/net.png");
-            pauseIcon = loadIcon("/resources/pause-button.png");
-            exitIcon = loadIcon("/resources/exit.png");
-            stabilizerIcon = loadIcon("/resources/defibrillator.png");
-        } catch (Exception e) {
-            System.err.println("Could not load game icons: " + e.getMessage());
-        }
+        flagIcon = loadIcon(FLAG_ICON);
+        metalDetectorIcon = loadIcon(METAL_DETECTOR_ICON);
+        safetyNetIcon = loadIcon(SAFETY_NET_ICON);
+        pauseIcon = loadIcon(PAUSE_ICON);
+        exitIcon = loadIcon(EXIT_ICON);
+        stabilizerIcon = loadIcon(STABILIZER_ICON);
     }
     
     // Load character icons for both players
     private void loadCharacterIcons(int player1CharIndex, int player2CharIndex) {
-        try {
-            if (player1CharIndex >= 0 && player1CharIndex < CHARACTER_ICON_PATHS.length) {
-                player1CharIcon = loadIcon(CHARACTER_ICON_PATHS[player1CharIndex]);
-            }
-            if (player2CharIndex >= 0 && player2CharIndex < CHARACTER_ICON_PATHS.length) {
-                player2CharIcon = loadIcon(CHARACTER_ICON_PATHS[player2CharIndex]);
-            }
-        } catch (Exception e) {
-            System.err.println("Could not load character icons: " + e.getMessage());
+        if (player1CharIndex >= 0 && player1CharIndex < CHARACTER_ICON_PATHS.length) {
+            player1CharPath = CHARACTER_ICON_PATHS[player1CharIndex];
+            player1CharIcon = loadIcon(player1CharPath);
+        }
+        if (player2CharIndex >= 0 && player2CharIndex < CHARACTER_ICON_PATHS.length) {
+            player2CharPath = CHARACTER_ICON_PATHS[player2CharIndex];
+            player2CharIcon = loadIcon(player2CharPath);
         }
     }
     
     // Helper method to load a single icon
-    private BufferedImage loadIcon(String resourcePath) throws IOException {
-        // Try classpath first (for JAR)
-        java.net.URL iconUrl = GameBoardView.class.getResource(resourcePath);
-        if (iconUrl != null) {
-            return ImageIO.read(iconUrl);
-        }
-        
-        // Fallback to file system (for IDE)
-        String iconPath = ResourceLoader.getResourcePath(resourcePath);
-        if (iconPath != null && !iconPath.isEmpty()) {
-            return ImageIO.read(new File(iconPath));
+    private BufferedImage loadIcon(String resourcePath) {
+        BufferedImage icon = IconCache.getImage(resourcePath);
+        if (icon == null) {
+            System.err.println("Icon not found: " + resourcePath);
         }
-        
-        System.err.println("Icon not found: " + resourcePath);
-        return null;
+        return icon;
     }
 
     // Timer setup and control
@@ -825,88 +769,25 @@ public class GameBoardView implements GameObserver {
         return panel;
     }
 
-    // create one grid of buttons and wire left/right click to the controller
-    private void initializeBoardButtons(JPanel boardPanel, JButton[][] buttons, int playerNum) {
-        int fontSize = switch (boardSize) {
-            case 9 -> 20;
-            case 13 -> 16;
-            case 16 -> 14;
-            default -> 16;
-        };
-
-        int cellSize = 40; // fixed size for all cells
-        Dimension cellDim = new Dimension(cellSize, cellSize);
-
-        for (int row = 0; row < boardSize; row++) {
-            for (int col = 0; col < boardSize; col++) {
-                final int r = row;
-                final int c = col;
-
-                JButton btn = new JButton();
-                btn.setBackground(COLOR_HIDDEN);
-                btn.setForeground(Color.WHITE);
-                btn.setFont(new Font("Tahoma", Font.BOLD, fontSize));
-                btn.setFocusPainted(false);
-                btn.setBorder(new LineBorder(new Color(40, 50, 60), 2));
-                btn.setPreferredSize(cellDim);
-                btn.setMinimumSize(cellDim);
-                btn.setMaximumSize(cellDim);
-
-                // mouse listener forwards clicks to controller, plus some UI rules
-                btn.addMouseListener(new MouseAdapter() {
-                    @Override
-                    public void mouseClicked(MouseEvent e) {
-                        if (SwingUtilities.isLeftMouseButton(e)) {
-                            controller.onCellClick(playerNum, r, c);
-                        } else if (SwingUtilities.isRightMouseButton(e)) {
-                            String text = btn.getText();
-                            if (text != null && text.endsWith("*")) {
-                                return;
-                            }
-                            controller.onCellRightClick(playerNum, r, c);
-                        }
-                    }
-
-                    @Override
-                    public void mouseEntered(MouseEvent e) {
-                        if (btn.isEnabled()) {
-                            // Check if metal detector is active and cell is a mine
-                            if (isMetalDetectorActive()) {
-                                model.Board currentBoard = (playerNum == 1) ? board1 : board2;
-                                if (currentBoard != null) {
-                                    model.Cell cell = currentBoard.getCell(r, c);
-                                    if (cell.isMine() && cell.isHidden()) {
-                                        // Red border for mine
-                                        btn.setBorder(new LineBorder(new Color(255, 50, 50), 3));
-                                        btn.setCursor(Cursor.getPredefinedCursor(Cursor.CROSSHAIR_CURSOR));
-                                        return;
-                                    }
-                                }
-                            }
-                            btn.setBorder(new LineBorder(new Color(100, 200, 150), 2));
-                        }
-                    }
-
-                    @Override
-                    public void mouseExited(MouseEvent e) {
-                        if (btn.isEnabled()) {
-                            btn.setBorder(new LineBorder(new Color(40, 50, 60), 2));
-                            btn.setCursor(Cursor.getDefaultCursor());
-                        }
-                    }
-                });
-
-                buttons[row][col] = btn;
-                boardPanel.add(btn);
-            }
+    // boards that fit are shown whole; bigger ones scroll and zoom, with a minimap underneath
+    private JComponent wrapForSize(BoardCanvas canvas) {
+        if (boardSize <= MAX_FITTED_BOARD_SIZE) {
+            return canvas;
         }
+        canvas.setZoom(ZOOMED_CELL_SIZE);
+        JScrollPane scrollPane = new JScrollPane(canvas);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(new Color(20, 20, 20));
 
-        // Set fixed size for the board panel itself
-        int boardPixelSize = boardSize * cellSize;
-        Dimension boardDim = new Dimension(boardPixelSize, boardPixelSize);
-        boardPanel.setPreferredSize(boardDim);
-        boardPanel.setMinimumSize(boardDim);
-        boardPanel.setMaximumSize(boardDim);
+        JPanel minimapRow = new JPanel(new FlowLayout(FlowLayout.CENTER, 0, 4));
+        minimapRow.setOpaque(false);
+        minimapRow.add(new BoardMinimap(canvas, MINIMAP_SIZE));
+
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.setOpaque(false);
+        panel.add(scrollPane, BorderLayout.CENTER);
+        panel.add(minimapRow, BorderLayout.SOUTH);
+        return panel;
     }
 
     private JButton createStyledButton(String text) {
@@ -965,142 +846,19 @@ public class GameBoardView implements GameObserver {
         }
     }
 
-    // main method that redraws a single cell according to Cell state + type
+    // main method that redraws a single cell; the canvas paints it from the Cell's state + type
     public void updateCell(int playerNum, int row, int col, Cell cell, String cellTypeLabel) {
-        JButton btn = (playerNum == 1) ? cellButtons1[row][col] : cellButtons2[row][col];
-
-        if (cell.isRevealed()) {
-            if (cell.isMine()) {
-                // revealed mine (by click or final reveal) - use bomb icon
-                btn.setText("");
-                if (bombIcon != null) {
-                    Image scaledImage = bombIcon.getScaledInstance(CELL_ICON_SIZE, CELL_ICON_SIZE, Image.SCALE_SMOOTH);
-                    btn.setIcon(new ImageIcon(scaledImage));
-                } else {
-                    btn.setText("M");
-                }
-                btn.setBackground(COLOR_MINE);
-                btn.setForeground(Color.WHITE);
-                btn.setEnabled(false);
-                // Prevent graying out when disabled
-                UIManager.put("Button.disabledText", Color.WHITE);
-                btn.setDisabledIcon(btn.getIcon());
-            } else if (cell.isQuestion()) {
-                // yellow question; after attempt we darken and disable it
-                btn.setText("");
-                if (cell.isQuestionAttempted()) {
-                    if (questionIcon != null) {
-                        Image scaledImage = questionIcon.getScaledInstance(QUESTION_ICON_SIZE, QUESTION_ICON_SIZE, Image.SCALE_SMOOTH);
-                        btn.setIcon(new ImageIcon(scaledImage));
-                    } else {
-                        btn.setText("Q");
-                    }
-                    btn.setBackground(COLOR_QUESTION_ATTEMPTED);
-                    btn.setEnabled(false);
-                } else {
-                    if (questionIcon != null) {
-                        Image scaledImage = questionIcon.getScaledInstance(QUESTION_ICON_SIZE, QUESTION_ICON_SIZE, Image.SCALE_SMOOTH);
-                        btn.setIcon(new ImageIcon(scaledImage));
-                    } else {
-                        btn.setText("Q");
-                    }
-                    btn.setBackground(COLOR_QUESTION);
-                    btn.setEnabled(true);
-                }
-                btn.setForeground(Color.BLACK);
-            } else if (cell.isSurprise()) {
-                // surprise cell behavior depends on pass/used state
-                btn.setText("");
-                if (surpriseIcon != null) {
-                    Image scaledImage = surpriseIcon.getScaledInstance(CELL_ICON_SIZE, CELL_ICON_SIZE, Image.SCALE_SMOOTH);
-                    btn.setIcon(new ImageIcon(scaledImage));
-                } else {
-                    btn.setText("S");
-                }
-                if (cell.isReadyForSurprise()) {
-                    // surprise already activated -> normal color but disabled
-                    btn.setBackground(COLOR_SURPRISE);
-                    btn.setEnabled(false);
-                } else if (cell.isSurprisePassed()) {
-                    // player passed turn on this surprise -> darker but still clickable
-                    btn.setBackground(COLOR_SURPRISE_DARK);
-                    btn.setEnabled(true);
-                } else {
-                    // just revealed and not passed/used yet
-                    btn.setBackground(COLOR_SURPRISE);
-                    btn.setEnabled(true);
-                }
-                btn.setForeground(Color.WHITE);
-            } else if (cellTypeLabel != null && !cellTypeLabel.isEmpty()) {
-                // revealed number cell (1â€“8)
-                btn.setIcon(null);
-                btn.setText(cellTypeLabel);
-                btn.setBackground(COLOR_SAFE);
-                try {
-                    int num = Integer.parseInt(cellTypeLabel);
-                    btn.setForeground(getNumberColor(num));   // different colors per number
-                } catch (NumberFormatException ex) {
-                    btn.setForeground(Color.BLACK);
-                }
-                btn.setEnabled(false);
-            } else {
-                // revealed empty cell (no mines around)
-                btn.setIcon(null);
-                btn.setText("");
-                btn.setBackground(new Color(200, 220, 200));
-                btn.setEnabled(false);
-            }
-            btn.setBorder(new LineBorder(new Color(30, 30, 30), 1));
-        } else if (cell.isFlagged()) {
-            // hidden + flagged -> show icon based on content
-            if (cell.isMine()) {
-                // mine flagged (safety net protection) -> show bomb icon
-                btn.setText("");
-                if (bombIcon != null) {
-                    Image scaledImage = bombIcon.getScaledInstance(CELL_ICON_SIZE, CELL_ICON_SIZE, Image.SCALE_SMOOTH);
-                    btn.setIcon(new ImageIcon(scaledImage));
-                } else {
-                    btn.setText("M");
-                }
-            } else {
-                // non-mine flagged -> show flag icon
-                btn.setText("");
-                if (flagIcon != null) {
-                    Image scaledImage = flagIcon.getScaledInstance(CELL_ICON_SIZE, CELL_ICON_SIZE, Image.SCALE_SMOOTH);
-                    btn.setIcon(new ImageIcon(scaledImage));
-                } else {
-                    btn.setText("F");
-                }
-            }
-            btn.setBackground(COLOR_FLAGGED);
-            btn.setForeground(Color.YELLOW);
-            btn.setEnabled(true);
-            btn.setBorder(new LineBorder(new Color(40, 50, 60), 2));
-        } else {
-            // hidden and not flagged â€“ default covered look
-            btn.setIcon(null);
-            btn.setText("");
-            btn.setBackground(COLOR_HIDDEN);
-            btn.setForeground(Color.WHITE);
-            btn.setEnabled(true);
-            btn.setBorder(new LineBorder(new Color(40, 50, 60), 2));
-        }
+        ((playerNum == 1) ? boardPanel1 : boardPanel2).repaintCell(row, col);
     }
 
-    // called after a question is answered to lock that Q visually
+    // redraws a whole board, for changes too big to go cell by cell (a bulk BoardDelta)
+    public void updateBoard(int playerNum) {
+        ((playerNum == 1) ? boardPanel1 : boardPanel2).repaintBoard();
+    }
+
+    // called after a question is answered to lock that Q visually (the Cell is already marked)
     public void markQuestionAttempted(int playerNum, int row, int col, Cell cell) {
-        JButton btn = (playerNum == 1) ? cellButtons1[row][col] : cellButtons2[row][col];
-        btn.setText("");
-        if (questionIcon != null) {
-            Image scaledImage = questionIcon.getScaledInstance(QUESTION_ICON_SIZE, QUESTION_ICON_SIZE, Image.SCALE_SMOOTH);
-            btn.setIcon(new ImageIcon(scaledImage));
-        } else {
-            btn.setText("Q");
-        }
-        btn.setBackground(COLOR_QUESTION_ATTEMPTED);
-        btn.setForeground(Color.BLACK);
-        btn.setEnabled(false);
-        btn.setBorder(new LineBorder(new Color(30, 30, 30), 1));
+        ((playerNum == 1) ? boardPanel1 : boardPanel2).repaintCell(row, col);
     }
 
     public void updateScore(int score) {
@@ -1114,9 +872,7 @@ public class GameBoardView implements GameObserver {
         // Add icon for each life remaining (filled hearts)
         for (int i = 0; i < lives; i++) {
             if (healthIcon != null) {
-                // Create a scaled version of the filled heart icon
-                Image scaledImage = healthIcon.getScaledInstance(ICON_SIZE, ICON_SIZE, Image.SCALE_SMOOTH);
-                JLabel iconLabel = new JLabel(new ImageIcon(scaledImage));
+                JLabel iconLabel = new JLabel(IconCache.get(HEALTH_ICON, ICON_SIZE, ICON_SIZE));
                 livesPanel.add(iconLabel);
             }
         }
@@ -1124,9 +880,7 @@ public class GameBoardView implements GameObserver {
         // Add icons for lost lives (empty hearts)
         for (int i = lives; i < maxLives; i++) {
             if (emptyHeartIcon != null) {
-                // Create a scaled version of the empty heart icon
-                Image scaledImage = emptyHeartIcon.getScaledInstance(ICON_SIZE, ICON_SIZE, Image.SCALE_SMOOTH);
-                JLabel iconLabel = new JLabel(new ImageIcon(scaledImage));
+                JLabel iconLabel = new JLabel(IconCache.get(EMPTY_HEART_ICON, ICON_SIZE, ICON_SIZE));
                 livesPanel.add(iconLabel);
             } else {
                 // Fallback to text if icon can't be loaded
@@ -1159,18 +913,15 @@ public class GameBoardView implements GameObserver {
         JOptionPane.showMessageDialog(frame, message, title, JOptionPane.INFORMATION_MESSAGE);
     }
 
-    // map number of neighbors to a classic Minesweeper color
-    private Color getNumberColor(int num) {
-        return switch (num) {
-            case 1 -> Color.BLUE;
-            case 2 -> new Color(0, 128, 0);
-            case 3 -> Color.RED;
-            case 4 -> new Color(0, 0, 128);
-            case 5 -> new Color(128, 0, 0);
-            case 6 -> new Color(0, 128, 128);
-            case 8 -> Color.GRAY;
-            default -> Color.BLACK;
-        };
+    /**
+     * Non-blocking notification shown over the top of the boards; it fades out by itself.
+     * Use for gameplay events the player doesn't have to acknowledge.
+     *
+     * @param message text, '\n' for line breaks
+     * @param iconPath icon resource shown next to it, or null
+     */
+    public void showNotification(String title, String message, Color accent, String iconPath) {
+        toasts.show(title, message, accent, iconPath);
     }
 
     // older dialog helper, now you mostly use the controllerâ€™s custom dialogs
@@ -1209,10 +960,9 @@ public class GameBoardView implements GameObserver {
             }
             
             // Load and set the appropriate tier icon
-            java.awt.image.BufferedImage tierIcon = model.ResourceLoader.loadImage("/resources/tier" + tierLevel + ".png");
+            ImageIcon tierIcon = IconCache.get("/resources/tier" + tierLevel + ".png", 40, 40);
             if (tierIcon != null && tierIconLabel != null) {
-                Image scaledTier = tierIcon.getScaledInstance(40, 40, Image.SCALE_SMOOTH);
-                tierIconLabel.setIcon(new ImageIcon(scaledTier));
+                tierIconLabel.setIcon(tierIcon);
                 tierIconLabel.repaint();  // Force repaint to ensure icon updates
             }
         } else if (momentumLabel != null) {
@@ -1223,10 +973,9 @@ public class GameBoardView implements GameObserver {
     // Reset momentum tier icon to tier1 when a mine is hit
     public void resetMomentumTierIcon() {
         if (tierIconLabel != null) {
-            java.awt.image.BufferedImage tierIcon = model.ResourceLoader.loadImage("/resources/tier1.png");
+            ImageIcon tierIcon = IconCache.get("/resources/tier1.png", 40, 40);
             if (tierIcon != null) {
-                Image scaledTier = tierIcon.getScaledInstance(40, 40, Image.SCALE_SMOOTH);
-                tierIconLabel.setIcon(new ImageIcon(scaledTier));
+                tierIconLabel.setIcon(tierIcon);
             }
         }
     }
@@ -1286,6 +1035,8 @@ public class GameBoardView implements GameObserver {
     public void setBoards(model.Board b1, model.Board b2) {
         this.board1 = b1;
         this.board2 = b2;
+        boardPanel1.setBoard(b1);
+        boardPanel2.setBoard(b2);
         
         // Update info panel border based on difficulty
         if (b1 != null) {
@@ -1386,7 +1137,7 @@ public class GameBoardView implements GameObserver {
      * @param playerNum 1 for player 1, 2 for player 2
      * @return The board panel component
      */
-    public JPanel getBoardPanel(int playerNum) {
+    public JComponent getBoardPanel(int playerNum) {
         return (playerNum == 1) ? boardPanel1 : boardPanel2;
     }
     
@@ -1428,9 +1179,7 @@ public class GameBoardView implements GameObserver {
         
         stabilizerAvailable = true;
         stabilizerBtnRef.setVisible(true);
-        // Display the icon at full brightness
-        Image scaledStabilizer = stabilizerIcon.getScaledInstance(CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE, Image.SCALE_SMOOTH);
-        stabilizerBtnRef.setIcon(new ImageIcon(scaledStabilizer));
+        stabilizerBtnRef.setIcon(IconCache.get(STABILIZER_ICON, CHARACTER_DISPLAY_SIZE, CHARACTER_DISPLAY_SIZE));
     }
 
     /**
@@ -1501,8 +1250,7 @@ public class GameBoardView implements GameObserver {
         JPanel titlePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
         titlePanel.setOpaque(false);
         if (stabilizerIcon != null) {
-            Image scaledIcon = stabilizerIcon.getScaledInstance(48, 48, Image.SCALE_SMOOTH);
-            JLabel iconLabel = new JLabel(new ImageIcon(scaledIcon));
+            JLabel iconLabel = new JLabel(IconCache.get(STABILIZER_ICON, 48, 48));
             titlePanel.add(iconLabel);
         }
         JLabel titleLabel = new JLabel("STABILIZER");
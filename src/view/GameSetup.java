@@ -8,11 +8,8 @@ import java.awt.Font;
 import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ButtonGroup;
 import javax.swing.ImageIcon;
@@ -27,7 +24,7 @@ import javax.swing.SwingConstants;
 import javax.swing.border.EtchedBorder;
 import javax.swing.border.LineBorder;
 import model.AudioManager;
-import model.ResourceLoader;
+import model.IconCache;
 
 public class GameSetup {
 
@@ -140,8 +137,7 @@ public class GameSetup {
             int col = c % 3;
             ib.setBounds(8 + col * (icW + gap), 76 + row * (icH + gap), icW, icH);
             if (characterImages[c] != null) {
-                Image scaledImage = characterImages[c].getScaledInstance(icW - 8, icH - 8, Image.SCALE_SMOOTH);
-                ib.setIcon(new ImageIcon(scaledImage));
+                ib.setIcon(IconCache.get(CHARACTER_ICONS[c], icW - 8, icH - 8));
             }
             ib.setFocusPainted(false);
             ib.setBorder(new LineBorder(new Color(80, 150, 120), 2));
@@ -194,8 +190,7 @@ public class GameSetup {
             int col = c % 3;
             ib.setBounds(8 + col * (icW + gap), 76 + row * (icH + gap), icW, icH);
             if (characterImages[c] != null) {
-                Image scaledImage = characterImages[c].getScaledInstance(icW - 8, icH - 8, Image.SCALE_SMOOTH);
-                ib.setIcon(new ImageIcon(scaledImage));
+                ib.setIcon(IconCache.get(CHARACTER_ICONS[c], icW - 8, icH - 8));
             }
             ib.setFocusPainted(false);
             ib.setBorder(new LineBorder(new Color(100, 120, 180), 2));
@@ -420,17 +415,8 @@ public class GameSetup {
     // Load character icons from resources
     private void loadCharacterIcons() {
         for (int i = 0; i < NUM_CHARACTERS; i++) {
-            try {
-                java.net.URL iconUrl = GameSetup.class.getResource(CHARACTER_ICONS[i]);
-                if (iconUrl != null) {
-                    characterImages[i] = ImageIO.read(iconUrl);
-                } else {
-                    String iconPath = ResourceLoader.getResourcePath(CHARACTER_ICONS[i]);
-                    if (iconPath != null && !iconPath.isEmpty()) {
-                        characterImages[i] = ImageIO.read(new File(iconPath));
-                    }
-                }
-            } catch (Exception e) {
+            characterImages[i] = IconCache.getImage(CHARACTER_ICONS[i]);
+            if (characterImages[i] == null) {
                 System.err.println("Could not load character icon: " + CHARACTER_ICONS[i]);
             }
         }
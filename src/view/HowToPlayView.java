@@ -94,10 +94,9 @@ public class HowToPlayView {
             instructionPanel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
             
             JLabel iconLabel = new JLabel();
-            java.awt.image.BufferedImage icon = model.ResourceLoader.loadImage(iconPaths[i]);
+            ImageIcon icon = model.IconCache.get(iconPaths[i], 32, 32);
             if (icon != null) {
-                Image scaledIcon = icon.getScaledInstance(32, 32, Image.SCALE_SMOOTH);
-                iconLabel.setIcon(new ImageIcon(scaledIcon));
+                iconLabel.setIcon(icon);
             } else {
                 iconLabel.setText("[" + (i+1) + "]");
                 iconLabel.setFont(new Font("Tahoma", Font.BOLD, 24));
@@ -17,6 +17,7 @@ import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
+import model.IconCache;
 import model.ResourceLoader;
 
 public class MainMenu {
@@ -179,25 +180,11 @@ public class MainMenu {
         
         // Load gears icon with better quality
         try {
-            java.awt.image.BufferedImage gearsImage = null;
-            // Try classpath first (for JAR)
-            java.net.URL gearsUrl = MainMenu.class.getResource("/resources/gears.png");
-            if (gearsUrl != null) {
-                gearsImage = ImageIO.read(gearsUrl);
-            } else {
-                // Fallback to file system (for IDE)
-                String gearsPath = ResourceLoader.getResourcePath("/resources/gears.png");
-                if (gearsPath != null && !gearsPath.isEmpty()) {
-                    gearsImage = ImageIO.read(new File(gearsPath));
-                }
-            }
-            if (gearsImage != null) {
-                // Use SCALE_AREA_AVERAGING for better quality
-                Image scaledImage = gearsImage.getScaledInstance(50, 50, Image.SCALE_AREA_AVERAGING);
-                settingsBtn.setIcon(new ImageIcon(scaledImage));
-                settingsBtn.setRolloverIcon(new ImageIcon(
-                    gearsImage.getScaledInstance(52, 52, Image.SCALE_AREA_AVERAGING)
-                ));
+            // Use SCALE_AREA_AVERAGING for better quality
+            ImageIcon gearsIcon = IconCache.get("/resources/gears.png", 50, 50, Image.SCALE_AREA_AVERAGING);
+            if (gearsIcon != null) {
+                settingsBtn.setIcon(gearsIcon);
+                settingsBtn.setRolloverIcon(IconCache.get("/resources/gears.png", 52, 52, Image.SCALE_AREA_AVERAGING));
             } else {
                 throw new Exception("Gears icon not found");
             }
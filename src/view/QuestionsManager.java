@@ -3,6 +3,7 @@ package view;
 import java.awt.*;
 import java.util.List;
 import javax.swing.*;
+import model.IconCache;
 import model.Questions;
 import model.ResourceLoader;
 import model.SysData;
@@ -292,8 +293,7 @@ public class QuestionsManager {
     private void onAddQuestion() {
         Questions q = showQuestionEditDialog(null);
         if (q != null) {
-            // Add directly to SysData's question list
-            SysData.getAllQuestions().add(q);
+            SysData.addQuestion(q);
             // save right away - persist to csv
             SysData.saveQuestions();
             // Refresh local reference and UI
@@ -306,16 +306,18 @@ public class QuestionsManager {
         Questions existing = questions.get(index);
         Questions updated = showQuestionEditDialog(existing);
         if (updated != null) {
+            SysData.replaceQuestion(existing, updated);
             // save right away - persist to csv
             SysData.saveQuestions();
+            // Refresh local reference and UI
+            questions = SysData.getAllQuestions();
             loadCards();
         }
     }
 
     private void onDeleteQuestion(int index) {
         showConfirmDialog("Confirm Delete", "Delete this question?", () -> {
-            // Remove from SysData's question list
-            SysData.getAllQuestions().remove(index);
+            SysData.removeQuestion(questions.get(index));
             // save right away - persist to csv
             SysData.saveQuestions();
             // Refresh local reference and UI
@@ -357,10 +359,9 @@ public class QuestionsManager {
         title.setFont(new Font("Tahoma", Font.BOLD, 20));
         
         // Try to load checkmark icon - TODO: Need checkmark/success icon
-        java.awt.image.BufferedImage icon = model.ResourceLoader.loadImage("/resources/correct.png");
+        ImageIcon icon = IconCache.get("/resources/correct.png", 24, 24);
         if (icon != null) {
-            Image scaledIcon = icon.getScaledInstance(24, 24, Image.SCALE_SMOOTH);
-            title.setIcon(new ImageIcon(scaledIcon));
+            title.setIcon(icon);
             title.setIconTextGap(8);
         }
         bg.add(title, BorderLayout.NORTH);
@@ -628,14 +629,8 @@ public class QuestionsManager {
                 if (existing == null) {
                     result[0] = new Questions(id, text, diff, a, b, c, d, ans);
                 } else {
-                    existing.setText(text);
-                    existing.setDifficulty(diff);
-                    existing.setOptA(a);
-                    existing.setOptB(b);
-                    existing.setOptC(c);
-                    existing.setOptD(d);
-                    existing.setCorrectAnswer(ans);
-                    result[0] = existing;
+                    // edited copy; the original may still be in use by a running game
+                    result[0] = new Questions(existing.getId(), text, diff, a, b, c, d, ans);
                 }
 
                 dialog.dispose();
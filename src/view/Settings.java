@@ -8,6 +8,7 @@ import java.io.File;
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import model.AudioManager;
+import model.IconCache;
 import model.ResourceLoader;
 
 public class Settings {
@@ -328,14 +329,13 @@ public class Settings {
         
         // Load and display the image
         try {
-            java.net.URL imgUrl = Settings.class.getResource("/resources/loz.jpeg");
-            if (imgUrl != null) {
-                ImageIcon originalImg = new ImageIcon(imgUrl);
+            java.awt.image.BufferedImage originalImg = IconCache.getImage("/resources/loz.jpeg");
+            if (originalImg != null) {
                 // Scale image to fit window (leaving some padding)
                 int maxWidth = 750;
                 int maxHeight = 550;
-                int imgWidth = originalImg.getIconWidth();
-                int imgHeight = originalImg.getIconHeight();
+                int imgWidth = originalImg.getWidth();
+                int imgHeight = originalImg.getHeight();
                 
                 double scaleX = (double) maxWidth / imgWidth;
                 double scaleY = (double) maxHeight / imgHeight;
@@ -344,7 +344,7 @@ public class Settings {
                 int newWidth = (int) (imgWidth * scale);
                 int newHeight = (int) (imgHeight * scale);
                 
-                ImageIcon scaledImg = new ImageIcon(originalImg.getImage().getScaledInstance(newWidth, newHeight, java.awt.Image.SCALE_SMOOTH));
+                ImageIcon scaledImg = IconCache.get("/resources/loz.jpeg", newWidth, newHeight);
                 JLabel imgLabel = new JLabel(scaledImg);
                 imgLabel.setBounds((800 - newWidth) / 2, (600 - newHeight) / 2, newWidth, newHeight);
                 layeredPane.add(imgLabel, JLayeredPane.DEFAULT_LAYER);
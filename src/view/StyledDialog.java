@@ -0,0 +1,189 @@
+package view;
+
+import java.awt.BorderLayout;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.swing.BorderFactory;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.SwingConstants;
+import javax.swing.border.Border;
+import model.IconCache;
+
+/**
+ * The game's green-gradient message dialogs: success, error, the stabilizer warning and the
+ * pause dialog. Each is a title with an icon, a message and one button.
+ *
+ * Each kind is built once, the first time it is shown, and then reused: showing it again only
+ * swaps the title, message, colours and icon (icons come from IconCache), so popping up a
+ * dialog doesn't rebuild the panel tree or touch any image files. Closing hides the dialog
+ * instead of disposing it, so its native window is kept for next time too.
+ * Must be used on the event dispatch thread.
+ */
+public class StyledDialog extends JDialog {
+
+    private enum Kind {
+        SUCCESS(new Color(50, 200, 100), new Color(50, 150, 100), new Color(100, 200, 150), "OK", 450, 220, 20, 13),
+        ERROR(new Color(255, 100, 100), new Color(180, 50, 50), new Color(255, 100, 100), "OK", 450, 220, 20, 13),
+        WARNING(new Color(255, 200, 0), new Color(200, 100, 0), new Color(255, 150, 0), "Understood", 500, 280, 20, 13),
+        PAUSE(new Color(255, 200, 100), new Color(50, 150, 100), new Color(100, 200, 150), "Resume", 400, 250, 24, 14);
+
+        final Color titleColor;
+        final Color buttonColor;
+        final Border buttonBorder;
+        final String buttonText;
+        final int width;
+        final int height;
+        final Font titleFont;
+        final Font messageFont;
+
+        Kind(Color titleColor, Color buttonColor, Color buttonBorderColor, String buttonText,
+             int width, int height, int titleSize, int messageSize) {
+            this.titleColor = titleColor;
+            this.buttonColor = buttonColor;
+            this.buttonBorder = BorderFactory.createLineBorder(buttonBorderColor, 2);
+            this.buttonText = buttonText;
+            this.width = width;
+            this.height = height;
+            this.titleFont = new Font("Tahoma", Font.BOLD, titleSize);
+            this.messageFont = new Font("Tahoma", Font.PLAIN, messageSize);
+        }
+    }
+
+    private static final Map<Kind, StyledDialog> DIALOGS = new EnumMap<>(Kind.class);
+
+    private static final Color GRADIENT_START = new Color(8, 45, 40);
+    private static final Color GRADIENT_END = new Color(5, 80, 60);
+    private static final Font BUTTON_FONT = new Font("Tahoma", Font.BOLD, 12);
+
+    private final Kind kind;
+    private final JLabel titleLabel = new JLabel("", SwingConstants.CENTER);
+    private final JLabel messageLabel = new JLabel("", SwingConstants.CENTER);
+    private final JButton okBtn = new JButton();
+    private Runnable onOk;
+    private Runnable onClose;
+
+    /**
+     * Show a success dialog; onOkClicked (may be null) runs after OK is pressed.
+     */
+    public static void showSuccess(String title, String message, String iconPath, Runnable onOkClicked) {
+        obtain(Kind.SUCCESS).display(title, message, iconPath, onOkClicked, null);
+    }
+
+    public static void showError(String title, String message, String iconPath) {
+        obtain(Kind.ERROR).display(title, message, iconPath, null, null);
+    }
+
+    /**
+     * Show a warning that has to be acknowledged ("Understood"). onClosed (may be null) runs
+     * instead of onUnderstood when the window is closed without pressing the button.
+     */
+    public static void showWarning(String title, String message, String iconPath,
+                                   Runnable onUnderstood, Runnable onClosed) {
+        obtain(Kind.WARNING).display(title, message, iconPath, onUnderstood, onClosed);
+    }
+
+    /**
+     * Show the pause dialog; onResume (may be null) runs after Resume is pressed.
+     */
+    public static void showPause(String title, String message, String iconPath, Runnable onResume) {
+        obtain(Kind.PAUSE).display(title, message, iconPath, onResume, null);
+    }
+
+    // the cached dialog of this kind; a throwaway one if the cached one is already on screen
+    // (e.g. an OK callback that opens another dialog of the same kind)
+    private static StyledDialog obtain(Kind kind) {
+        StyledDialog dialog = DIALOGS.get(kind);
+        if (dialog == null) {
+            dialog = new StyledDialog(kind);
+            DIALOGS.put(kind, dialog);
+        } else if (dialog.isShowing()) {
+            dialog = new StyledDialog(kind);
+        }
+        return dialog;
+    }
+
+    private StyledDialog(Kind kind) {
+        this.kind = kind;
+        setModal(true);
+        setResizable(false);
+        setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                finish(onClose);
+            }
+        });
+
+        JPanel bg = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                Graphics2D g2 = (Graphics2D) g;
+                GradientPaint gp = new GradientPaint(0, 0, GRADIENT_START, getWidth(), getHeight(), GRADIENT_END);
+                g2.setPaint(gp);
+                g2.fillRect(0, 0, getWidth(), getHeight());
+            }
+        };
+        setContentPane(bg);
+
+        titleLabel.setFont(kind.titleFont);
+        titleLabel.setForeground(kind.titleColor);
+        messageLabel.setFont(kind.messageFont);
+        messageLabel.setForeground(Color.WHITE);
+        okBtn.setText(kind.buttonText);
+        okBtn.setForeground(Color.WHITE);
+        okBtn.setBackground(kind.buttonColor);
+        okBtn.setBorder(kind.buttonBorder);
+        okBtn.setFocusPainted(false);
+        okBtn.addActionListener(e -> finish(onOk));
+
+        setSize(kind.width, kind.height);
+        bg.setLayout(new BorderLayout(10, 10));
+        bg.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
+        titleLabel.setIconTextGap(10);
+        bg.add(titleLabel, BorderLayout.NORTH);
+        bg.add(messageLabel, BorderLayout.CENTER);
+        JPanel btnPanel = new JPanel();
+        btnPanel.setOpaque(false);
+        okBtn.setFont(BUTTON_FONT);
+        okBtn.setPreferredSize(new Dimension(Math.max(90, okBtn.getPreferredSize().width + 20), 35));
+        btnPanel.add(okBtn);
+        bg.add(btnPanel, BorderLayout.SOUTH);
+    }
+
+    private void display(String title, String message, String iconPath, Runnable onOkClicked, Runnable onClosed) {
+        setTitle(title);
+        titleLabel.setText(title);
+        titleLabel.setIcon(IconCache.get(iconPath, 32, 32));
+        messageLabel.setText("<html><center>" + message + "</center></html>");
+        onOk = onOkClicked;
+        onClose = onClosed;
+
+        setLocationRelativeTo(null);
+        setVisible(true);
+    }
+
+    // hides the dialog (throwaway ones are disposed) and then runs the callback, if any
+    private void finish(Runnable callback) {
+        onOk = null;
+        onClose = null;
+        setVisible(false);
+        if (DIALOGS.get(kind) != this) {
+            dispose();
+        }
+        if (callback != null) {
+            callback.run();
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package view;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Container;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+import model.IconCache;
+
+/**
+ * Non-modal notifications ("toasts") drawn over the top of the game window.
+ *
+ * Notifications are queued and shown one at a time: each fades in, stays for a time that
+ * depends on its length, then fades out. Nothing waits for them, so the game keeps running
+ * while they are on screen. When more are waiting the current one is cut short, a repeat of
+ * the one on screen just keeps it up longer, and clicking a toast dismisses it.
+ * The layer only covers the toast itself, so the board underneath stays clickable.
+ */
+class ToastLayer extends JComponent {
+
+    private static final int WIDTH = 440;
+    private static final int TOP_MARGIN = 110;
+    private static final int PADDING = 14;
+    private static final int ICON_SIZE = 32;
+
+    private static final int TICK_MS = 15;
+    private static final int FADE_IN_MS = 150;
+    private static final int FADE_OUT_MS = 300;
+    private static final int MIN_HOLD_MS = 1800;
+    private static final int MAX_HOLD_MS = 5000;
+    private static final int HOLD_MS_PER_CHAR = 35;
+    private static final int BUSY_HOLD_MS = 700;   // hold when other toasts are waiting
+    private static final int MAX_QUEUED = 6;        // older waiting toasts are dropped past this
+
+    private static final Color BACKGROUND = new Color(15, 25, 30, 235);
+    private static final Font TITLE_FONT = new Font("Tahoma", Font.BOLD, 16);
+    private static final Font MESSAGE_FONT = new Font("Tahoma", Font.PLAIN, 13);
+
+    private static final class Toast {
+        final String title;
+        final String message;
+        final Color accent;
+        final String iconPath;
+        final int holdMs;
+        List<String> lines; // message wrapped to the toast's current width, redone on resize
+
+        Toast(String title, String message, Color accent, String iconPath) {
+            this.title = title;
+            this.message = message;
+            this.accent = accent;
+            this.iconPath = iconPath;
+            this.holdMs = Math.min(MAX_HOLD_MS, MIN_HOLD_MS + HOLD_MS_PER_CHAR * (title.length() + message.length()));
+        }
+
+        boolean sameAs(Toast other) {
+            return title.equals(other.title) && message.equals(other.message);
+        }
+    }
+
+    private final ArrayDeque<Toast> queue = new ArrayDeque<>();
+    private final Timer timer = new Timer(TICK_MS, e -> tick());
+    private final ComponentAdapter recenter = new ComponentAdapter() {
+        @Override
+        public void componentResized(ComponentEvent e) {
+            if (current != null) placeCurrent();
+        }
+    };
+    private Toast current;
+    private ImageIcon currentIcon;
+    private long shownAt;     // ms
+    private long dismissAt;   // ms, when the fade-out starts
+    private float alpha;
+
+    ToastLayer() {
+        setOpaque(false);
+        setVisible(false);
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dismissAt = Math.min(dismissAt, now());
+            }
+        });
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        // keep the toast centred when the window is resized
+        getParent().addComponentListener(recenter);
+    }
+
+    @Override
+    public void removeNotify() {
+        getParent().removeComponentListener(recenter);
+        super.removeNotify();
+    }
+
+    /**
+     * Queue a notification. message may contain '\n' line breaks; iconPath may be null.
+     */
+    void show(String title, String message, Color accent, String iconPath) {
+        Toast toast = new Toast(title, message == null ? "" : message, accent, iconPath);
+
+        if (current != null && current.sameAs(toast) && now() < dismissAt) {
+            dismissAt = Math.max(dismissAt, now() + toast.holdMs);
+            return;
+        }
+        if (!queue.isEmpty() && queue.peekLast().sameAs(toast)) return;
+
+        if (queue.size() == MAX_QUEUED) queue.pollFirst();
+        queue.addLast(toast);
+        if (current == null) showNext();
+    }
+
+    // drops everything, e.g. when the game window closes
+    void clear() {
+        queue.clear();
+        current = null;
+        timer.stop();
+        setVisible(false);
+    }
+
+    private void showNext() {
+        current = queue.pollFirst();
+        if (current == null) {
+            timer.stop();
+            setVisible(false);
+            return;
+        }
+        currentIcon = (current.iconPath == null) ? null : IconCache.get(current.iconPath, ICON_SIZE, ICON_SIZE);
+        shownAt = now();
+        dismissAt = shownAt + FADE_IN_MS + current.holdMs;
+        alpha = 0f;
+        placeCurrent();
+        setVisible(true);
+        timer.start();
+    }
+
+    private void tick() {
+        long t = now();
+        if (!queue.isEmpty()) {
+            dismissAt = Math.min(dismissAt, shownAt + FADE_IN_MS + BUSY_HOLD_MS);
+        }
+        if (t < shownAt + FADE_IN_MS) {
+            alpha = (t - shownAt) / (float) FADE_IN_MS;
+        } else if (t < dismissAt) {
+            alpha = 1f;
+        } else if (t < dismissAt + FADE_OUT_MS) {
+            alpha = 1f - (t - dismissAt) / (float) FADE_OUT_MS;
+        } else {
+            showNext();
+            return;
+        }
+        repaint();
+    }
+
+    // sizes the toast to the window (narrow windows get a narrower toast) and wraps the message
+    // to the width it ends up with
+    private void placeCurrent() {
+        Container parent = getParent();
+        int width = parent == null ? WIDTH : Math.min(WIDTH, Math.max(200, parent.getWidth() - 20));
+        FontMetrics messageMetrics = getFontMetrics(MESSAGE_FONT);
+        current.lines = wrap(current.message, messageMetrics, textWidth(width));
+        if (parent == null) return;
+        FontMetrics titleMetrics = getFontMetrics(TITLE_FONT);
+        int textHeight = titleMetrics.getHeight() + current.lines.size() * messageMetrics.getHeight();
+        int height = PADDING * 2 + Math.max(textHeight, currentIcon == null ? 0 : ICON_SIZE);
+        setBounds((parent.getWidth() - width) / 2, TOP_MARGIN, width, height);
+        repaint();
+    }
+
+    // room left for the text in a toast this wide; the icon column only counts when there is an icon
+    private int textWidth(int width) {
+        int text = width - PADDING * 2;
+        if (currentIcon != null) text -= ICON_SIZE + PADDING;
+        return text;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (current == null) return;
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.max(0f, Math.min(1f, alpha))));
+
+        int w = getWidth();
+        int h = getHeight();
+        g2.setColor(BACKGROUND);
+        g2.fillRoundRect(0, 0, w - 1, h - 1, 16, 16);
+        g2.setColor(current.accent);
+        g2.setStroke(new BasicStroke(2f));
+        g2.drawRoundRect(1, 1, w - 3, h - 3, 16, 16);
+
+        int x = PADDING;
+        if (currentIcon != null) {
+            currentIcon.paintIcon(this, g2, x, (h - ICON_SIZE) / 2);
+            x += ICON_SIZE + PADDING;
+        }
+
+        FontMetrics titleMetrics = g2.getFontMetrics(TITLE_FONT);
+        int y = PADDING + titleMetrics.getAscent();
+        g2.setFont(TITLE_FONT);
+        g2.drawString(current.title, x, y);
+
+        g2.setFont(MESSAGE_FONT);
+        g2.setColor(Color.WHITE);
+        FontMetrics messageMetrics = g2.getFontMetrics();
+        y += titleMetrics.getDescent() + messageMetrics.getAscent();
+        for (String line : current.lines) {
+            g2.drawString(line, x, y);
+            y += messageMetrics.getHeight();
+        }
+        g2.dispose();
+    }
+
+    // word-wraps text (which may already contain '\n') to the given pixel width
+    private static List<String> wrap(String text, FontMetrics metrics, int width) {
+        List<String> lines = new ArrayList<>();
+        if (text.isEmpty()) return lines;
+        for (String paragraph : text.split("\n")) {
+            StringBuilder line = new StringBuilder();
+            for (String word : paragraph.split(" ")) {
+                if (line.length() > 0 && metrics.stringWidth(line + " " + word) > width) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                }
+                if (line.length() > 0) line.append(' ');
+                line.append(word);
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1_000_000L;
+    }
+}
@@ -0,0 +1,56 @@
+package model;
+
+import model.Board.Difficulty;
+
+/**
+ * Rough timing of board generation and a full flood fill for each board size class.
+ * Not a unit test - run it as a plain Java program, e.g.
+ *   java -Xmx2g -cp bin model.BoardBenchmark
+ * Pass sizes as arguments (e.g. "1000 5000") to run only those.
+ */
+public class BoardBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {16, 100, 1000, 3000, 10000};
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        // let the JIT compile the hot paths before we time anything
+        for (int i = 0; i < 2000; i++) {
+            Board.withSize(Difficulty.HARD, 32, 32).reveal(0, 0);
+        }
+
+        System.out.printf("%-13s %12s %12s %14s%n", "size", "cells", "generate ms", "full fill ms");
+        for (int size : sizes) {
+            int reps = size <= 100 ? 50 : (size <= 1000 ? 5 : 1);
+
+            long generateNanos = Long.MAX_VALUE;
+            for (int r = 0; r < reps; r++) {
+                long start = System.nanoTime();
+                Board.withSize(Difficulty.HARD, size, size);
+                generateNanos = Math.min(generateNanos, System.nanoTime() - start);
+            }
+
+            // no mines and no specials: one click opens every cell, the worst case for the fill
+            long fillNanos = Long.MAX_VALUE;
+            for (int r = 0; r < reps; r++) {
+                Board open = new Board(Difficulty.HARD, size, size, 0, 0, 0);
+                long start = System.nanoTime();
+                open.reveal(0, 0);
+                fillNanos = Math.min(fillNanos, System.nanoTime() - start);
+                if (!open.isFinished()) {
+                    throw new IllegalStateException("Flood fill did not open the whole board");
+                }
+            }
+
+            System.out.printf("%-13s %12d %12.2f %14.2f%n", size + "x" + size, (long) size * size,
+                    generateNanos / 1e6, fillNanos / 1e6);
+        }
+    }
+}
@@ -63,4 +63,616 @@ public class MyFirstTests {
         assertEquals(12, gm.getScore());   // 20 − 8
         assertEquals(startLives - 1, gm.getLives());
     }
+
+    // J5 – cells from a board are live views over the board's storage
+    @Test
+    public void boardCellChangesAreVisibleThroughNewViews() {
+        Board b = new Board(Difficulty.EASY);
+
+        b.getCell(0, 0).setState(Cell.CellState.FLAGGED);
+        b.getCell(0, 1).setQuestionAttempted(true);
+
+        assertTrue(b.getCell(0, 0).isFlagged());
+        assertTrue(b.getCell(0, 1).isQuestionAttempted());
+        assertFalse(b.getCell(1, 1).isQuestionAttempted());
+    }
+
+    // J6 – running counters follow reveals, flags and direct cell state changes
+    @Test
+    public void hiddenCountersTrackRevealAndFlag() {
+        Board b = new Board(Difficulty.EASY);
+        int total = b.getRows() * b.getCols();
+        assertEquals(total, b.getHiddenCellCount());
+        assertEquals(10, b.getHiddenMineCount());
+
+        Cell mine = null;
+        for (int r = 0; r < b.getRows() && mine == null; r++) {
+            for (int c = 0; c < b.getCols(); c++) {
+                if (b.getCell(r, c).isMine()) {
+                    mine = b.getCell(r, c);
+                    break;
+                }
+            }
+        }
+        b.toggleFlag(mine.getRow(), mine.getCol());
+        assertEquals(9, b.getHiddenMineCount());
+        assertEquals(1, b.getFlaggedCellCount());
+
+        mine.setState(Cell.CellState.REVEALED);
+        assertEquals(0, b.getFlaggedCellCount());
+        assertEquals(9, b.getHiddenMineCount());
+        assertEquals(total - 1, b.getHiddenCellCount());
+        assertFalse(b.isFinished());
+    }
+
+    // J7 – custom-size boards scale mines from the difficulty and keep the given size
+    @Test
+    public void customSizeBoardScalesMineCount() {
+        Board b = Board.withSize(Difficulty.EASY, 90, 45);
+
+        assertEquals(90, b.getRows());
+        assertEquals(45, b.getCols());
+        assertEquals(500, b.getTotalMines()); // 10 mines per 81 cells
+        assertEquals(500, b.getHiddenMineCount());
+    }
+
+    // J8 – a board with more mines than cells is rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void customBoardRejectsTooManyMines() {
+        new Board(Difficulty.EASY, 3, 3, 10, 0, 0);
+    }
+
+    // J9 – the same seed always gives the same layout
+    @Test
+    public void sameSeedGivesSameBoard() {
+        Board a = new Board(Difficulty.HARD, 42L);
+        Board b = new Board(Difficulty.HARD, 42L);
+
+        assertEquals(42L, a.getSeed());
+        for (int r = 0; r < a.getRows(); r++) {
+            for (int c = 0; c < a.getCols(); c++) {
+                assertEquals(a.getCell(r, c).getType(), b.getCell(r, c).getType());
+                assertEquals(a.getCell(r, c).getNeighborMines(), b.getCell(r, c).getNeighborMines());
+            }
+        }
+    }
+
+    // J10 – the board pool hands out a board right away, even before any warm-up
+    @Test
+    public void boardPoolTakeNeverWaits() {
+        BoardPool pool = new BoardPool(2, BoardPool.RefillPolicy.MANUAL, Board::new);
+        try {
+            Board b = pool.take(Difficulty.MEDIUM);
+
+            assertEquals(Difficulty.MEDIUM, b.getDifficulty());
+            assertEquals(13, b.getRows());
+            assertEquals(b.getRows() * b.getCols(), b.getHiddenCellCount());
+            assertEquals(0, pool.getReadyCount(Difficulty.MEDIUM)); // manual: nothing refilled
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // J11 – no-guess boards can be cleared from their start cell by deduction alone
+    @Test
+    public void noGuessBoardIsSolvableFromStart() {
+        NoGuessGenerator generator = new NoGuessGenerator();
+        Board b = generator.generate(Difficulty.HARD, 7L);
+
+        assertTrue(b.isNoGuess());
+        assertTrue(b.hasSafeStart());
+        assertEquals(44, b.getHiddenMineCount());
+        assertFalse(b.getCell(b.getSafeStartRow(), b.getSafeStartCol()).isMine());
+        assertTrue(new BoardSolver(b).solveFrom(b.getSafeStartRow(), b.getSafeStartCol()));
+        assertEquals(1, generator.getMetrics(Difficulty.HARD).getBoards());
+    }
+
+    // J12 – mine probabilities follow the revealed numbers
+    @Test
+    public void probabilityEngineFollowsNumbers() {
+        // 1x3 strip with one mine: opening a safe end leaves exactly one place for it
+        Board b = new Board(Difficulty.EASY, 1, 3, 1, 0, 0, 1L);
+        int mineCol = b.getCell(0, 0).isMine() ? 0 : (b.getCell(0, 1).isMine() ? 1 : 2);
+        MineProbabilityEngine engine = new MineProbabilityEngine(b);
+
+        assertEquals(1.0 / 3, engine.getMineProbability(0, 0), 1e-9);
+
+        int safeEnd = mineCol == 0 ? 2 : 0;
+        b.reveal(0, safeEnd);
+        assertEquals(0.0, engine.getMineProbability(0, safeEnd), 1e-9);
+        assertEquals(1.0, engine.getMineProbability(0, mineCol), 1e-9); // the visible 1 pins it down
+        assertTrue(engine.isExact());
+    }
+
+    // J13 – giant boards (parallel generation) are still exact and reproducible from the seed
+    @Test
+    public void giantBoardIsReproducible() {
+        Board a = new Board(Difficulty.HARD, 2048, 2048, 700_000, 100, 50, 99L);
+        Board b = new Board(Difficulty.HARD, 2048, 2048, 700_000, 100, 50, 99L);
+
+        assertEquals(700_000, a.getHiddenMineCount());
+        for (int r = 0; r < a.getRows(); r += 7) {
+            for (int c = 0; c < a.getCols(); c += 3) {
+                assertEquals(a.getCell(r, c).getType(), b.getCell(r, c).getType());
+            }
+        }
+    }
+
+    // J14 – a huge cascade (parallel fill on multi-core machines) keeps the counters exact
+    @Test
+    public void hugeCascadeKeepsCounters() {
+        Board b = new Board(Difficulty.EASY, 1000, 1000, 0, 0, 0, 5L);
+        b.toggleFlag(500, 500);
+        b.reveal(0, 0);
+
+        assertEquals(999_999, b.getRevealedSafeCellCount());
+        assertEquals(1, b.getRemainingSafeCells());
+        assertEquals(0, b.getHiddenCellCount());
+        assertFalse(b.getCell(500, 500).isRevealed());
+        assertTrue(b.getCell(999, 999).isRevealed());
+    }
+
+    // J15 – reveal / toggleFlag report exactly the cells they changed
+    @Test
+    public void revealReturnsChangedCells() {
+        Board b = new Board(Difficulty.EASY, 10, 10, 0, 0, 0, 3L);
+        assertEquals(1, b.toggleFlag(9, 9).size());
+
+        BoardDelta delta = b.reveal(0, 0);
+        assertEquals(99, delta.size()); // everything but the flag
+        assertEquals(b.getRevealedSafeCellCount(), delta.size());
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.getIndex(i);
+            assertTrue(b.getCell(index / 10, index % 10).isRevealed());
+        }
+        assertTrue(b.reveal(0, 0).isEmpty());
+    }
+
+    // J16 – icons are scaled once per (resource, size) and then shared
+    @Test
+    public void iconCacheSharesScaledIcons() {
+        javax.swing.ImageIcon bomb = IconCache.get("/resources/bomb.png", 32, 32);
+        assertNotNull(bomb);
+        assertEquals(32, bomb.getIconWidth());
+        assertEquals(32, bomb.getIconHeight());
+        assertSame(bomb, IconCache.get("/resources/bomb.png", 32, 32));
+        assertNotSame(bomb, IconCache.get("/resources/bomb.png", 24, 24));
+        assertNull(IconCache.get("/resources/no_such_icon.png", 32, 32));
+    }
+
+    // J21 – a question session draws each question once per game, and reset makes them available again
+    @Test
+    public void questionSessionDrawsWithoutRepeats() {
+        java.util.List<Questions> questions = new java.util.ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            questions.add(new Questions(id, "Q" + id, (id % 2) + 1, "a", "b", "c", "d", "A"));
+        }
+        QuestionSession session = new QuestionSession(new QuestionBank(questions));
+        assertEquals(5, session.getTotalQuestions(1));
+        assertEquals(5, session.getTotalQuestions(2));
+        assertEquals(0, session.getTotalQuestions(3));
+
+        java.util.SplittableRandom random = new java.util.SplittableRandom(7L);
+        java.util.Set<Integer> seen = new java.util.HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            Questions q = session.draw(2, random);
+            assertEquals(2, q.getDifficulty());
+            assertTrue(seen.add(q.getId()));
+            assertEquals(4 - i, session.getRemainingQuestions(2));
+        }
+        assertNull(session.draw(2, random));
+        assertEquals(5, session.getRemainingQuestions(1));
+
+        session.reset();
+        assertEquals(5, session.getRemainingQuestions(2));
+    }
+
+    // J22 – games drawing from the same bank don't see each other's draws
+    @Test
+    public void questionSessionsAreIndependent() {
+        java.util.List<Questions> questions = new java.util.ArrayList<>();
+        for (int id = 1; id <= 4; id++) {
+            questions.add(new Questions(id, "Q" + id, 1, "a", "b", "c", "d", "A"));
+        }
+        QuestionBank bank = new QuestionBank(questions);
+        QuestionSession game1 = new QuestionSession(bank);
+        QuestionSession game2 = new QuestionSession(bank);
+
+        java.util.SplittableRandom random = new java.util.SplittableRandom(1L);
+        for (int i = 0; i < 4; i++) assertNotNull(game1.draw(1, random));
+        assertNull(game1.draw(1, random));
+
+        assertEquals(4, game2.getRemainingQuestions(1));
+        java.util.Set<Integer> seen = new java.util.HashSet<>();
+        for (int i = 0; i < 4; i++) assertTrue(seen.add(game2.draw(1, random).getId()));
+    }
+
+    // J23 – question updates publish new snapshots: old snapshots never change, concurrent adds aren't lost
+    @Test
+    public void questionStoreIsCopyOnWrite() throws Exception {
+        java.util.List<Questions> before = SysData.getAllQuestions();
+        int size = before.size();
+
+        Thread[] writers = new Thread[4];
+        java.util.List<Questions> added = java.util.Collections.synchronizedList(new java.util.ArrayList<>());
+        for (int t = 0; t < writers.length; t++) {
+            int base = 1_000_000 + t * 100;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 50; i++) {
+                    Questions q = new Questions(base + i, "T", 1, "a", "b", "c", "d", "A");
+                    added.add(q);
+                    SysData.addQuestion(q);
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread w : writers) w.join();
+
+        assertEquals(size, before.size());
+        assertEquals(size + 200, SysData.getAllQuestions().size());
+        try {
+            before.add(added.get(0));
+            fail("snapshots are read-only");
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        for (Questions q : added) SysData.removeQuestion(q);
+        assertEquals(size, SysData.getAllQuestions().size());
+    }
+
+    // J24 – the CSV reader handles quoted commas, line breaks and doubled quotes, and any line ending
+    @Test
+    public void csvReaderFollowsRfc4180() throws Exception {
+        String text = "id,text,n\r\n"
+                + "1,\"a, b\",42\n"
+                + "2,\"line one\nline \"\"two\"\"\", -7\r"
+                + "\r\n"
+                + "3,,9999999999";
+        try (CsvReader csv = new CsvReader(new java.io.StringReader(text))) {
+            assertTrue(csv.next());
+            assertTrue(csv.fieldEquals(0, "id"));
+
+            assertTrue(csv.next());
+            assertEquals(3, csv.size());
+            assertEquals("a, b", csv.get(1));
+            assertEquals(42, csv.getInt(2));
+
+            assertTrue(csv.next());
+            assertEquals("line one\nline \"two\"", csv.get(1));
+            assertEquals(-7, csv.getInt(2));
+            assertEquals(3, csv.getLineNumber());
+
+            assertTrue(csv.next());
+            assertTrue(csv.isBlankLine());
+
+            assertTrue(csv.next());
+            assertEquals("", csv.get(1));
+            assertEquals(9_999_999_999L, csv.getLong(2));
+            assertFalse(csv.next());
+        }
+    }
+
+    // J25 – the mapped parallel history reader gives the same records, in the same order, as the
+    // streaming one, even when chunk cuts fall inside quoted fields with line breaks
+    @Test
+    public void mappedHistoryReaderMatchesStreaming() throws Exception {
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("history", ".csv");
+        try {
+            StringBuilder sb = new StringBuilder("DateTime,Player1,Player2,Username,Difficulty,Win,Score,Duration,"
+                    + "MinesHit,QuestionsAnswered,CorrectQuestions,WrongQuestions,SurprisesTriggered,"
+                    + "PositiveSurprises,NegativeSurprises,LivesRemaining\n");
+            String longName = "\"" + "name\n".repeat(2000) + "\"\"x\"\"\"";
+            for (int i = 0; sb.length() < MappedHistoryReader.MIN_SIZE + 1000; i++) {
+                String player1 = (i % 5 == 0) ? longName : "p" + i;
+                sb.append("2024-01-01 10:00:00,").append(player1).append(",b,u,EASY,true,")
+                  .append(i).append(",60,1,2,1,1,0,0,0,3\n");
+            }
+            java.nio.file.Files.writeString(file, sb);
+            assertTrue(MappedHistoryReader.isWorthIt(file));
+
+            java.util.List<History> streamed = new java.util.ArrayList<>();
+            try (CsvReader csv = new CsvReader(new java.io.StringReader(sb.toString()))) {
+                HistoryManager.parseRecords(csv, streamed::add);
+            }
+            java.util.List<History> mapped = MappedHistoryReader.read(file);
+
+            assertEquals(streamed.size(), mapped.size());
+            for (int i = 0; i < streamed.size(); i++) {
+                assertEquals(streamed.get(i).getFinalScore(), mapped.get(i).getFinalScore());
+                assertEquals(streamed.get(i).getPlayer1Name(), mapped.get(i).getPlayer1Name());
+            }
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+
+    // J26 – a game started with a seed replays the same boards and surprise outcomes
+    @Test
+    public void seededGameReplaysSurprises() {
+        GameManger a = new GameManger();
+        a.GameManager(Difficulty.EASY, 99L);
+        GameManger b = new GameManger();
+        b.GameManager(Difficulty.EASY, 99L);
+        assertEquals(a.getBoard().getSeed(), b.getBoard().getSeed());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(a.rollSurprise(), b.rollSurprise());
+        }
+    }
+
+    // J27 – a board says whether its seed still gives its layout (no-guess repairs move mines)
+    @Test
+    public void repairedBoardsAreNotReproducibleFromTheirSeed() {
+        Board regular = new Board(Difficulty.HARD, 7L);
+        assertTrue(regular.isReproducible());
+
+        Board repaired = new NoGuessGenerator().generate(Difficulty.HARD, 7L);
+        Board rebuilt = new Board(Difficulty.HARD, repaired.getSeed());
+        boolean sameMines = true;
+        for (int r = 0; r < rebuilt.getRows(); r++) {
+            for (int c = 0; c < rebuilt.getCols(); c++) {
+                sameMines &= rebuilt.getCell(r, c).isMine() == repaired.getCell(r, c).isMine();
+            }
+        }
+        assertEquals(sameMines, repaired.isReproducible());
+    }
+
+    // J28 – probability engines are cached per board until the game lets them go
+    @Test
+    public void probabilityEnginesAreReleased() {
+        GameManger gm = new GameManger();
+        gm.GameManager(Difficulty.EASY, 5L);
+        Board b = gm.getBoard();
+        MineProbabilityEngine engine = gm.getProbabilityEngine(b);
+        assertSame(engine, gm.getProbabilityEngine(b));
+        gm.releaseProbabilityEngines();
+        assertNotSame(engine, gm.getProbabilityEngine(b));
+    }
+
+    // J29 – a cascade bigger than MAX_LISTED gives a bulk delta that still counts every cell
+    @Test
+    public void hugeCascadeGivesBulkDelta() {
+        Board b = new Board(Difficulty.EASY, 1000, 1000, 0, 0, 0, 5L);
+        BoardDelta delta = b.reveal(0, 0);
+        assertTrue(delta.isBulk());
+        assertEquals(1_000_000, delta.size());
+
+        BoardDelta small = new Board(Difficulty.EASY, 10, 10, 0, 0, 0, 3L).reveal(0, 0);
+        assertFalse(small.isBulk());
+        small.addAll(delta);
+        assertTrue(small.isBulk());
+        assertEquals(1_000_100, small.size());
+    }
+
+    // J30 – concurrent adds and saves always leave the newest question list on disk
+    @Test
+    public void concurrentSavesWriteTheLatestQuestions() throws Exception {
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("questions", ".csv");
+        java.util.List<Questions> added = java.util.Collections.synchronizedList(new java.util.ArrayList<>());
+        try {
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                int base = 2_000_000 + t * 100;
+                writers[t] = new Thread(() -> {
+                    for (int i = 0; i < 20; i++) {
+                        Questions q = new Questions(base + i, "T", 1, "a", "b", "c", "d", "A");
+                        added.add(q);
+                        SysData.addQuestion(q);
+                        SysData.saveQuestions(file.toString());
+                    }
+                });
+                writers[t].start();
+            }
+            for (Thread w : writers) w.join();
+
+            java.util.List<String> lines = java.nio.file.Files.readAllLines(file);
+            assertEquals(SysData.getAllQuestions().size() + 1, lines.size()); // + header
+            java.util.Set<String> ids = new java.util.HashSet<>();
+            for (String line : lines) ids.add(line.substring(0, line.indexOf(',')));
+            for (Questions q : added) assertTrue(ids.contains(String.valueOf(q.getId())));
+        } finally {
+            for (Questions q : added) SysData.removeQuestion(q);
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+
+    // J31 – a bare quote inside an unquoted field is literal to both history readers, so the
+    // mapped reader still cuts the file between records
+    @Test
+    public void mappedHistoryReaderKeepsBareQuotesLiteral() throws Exception {
+        java.nio.file.Path file = java.nio.file.Files.createTempFile("history", ".csv");
+        try {
+            StringBuilder sb = new StringBuilder("DateTime,Player1,Player2,Username,Difficulty,Win,Score,Duration,"
+                    + "MinesHit,QuestionsAnswered,CorrectQuestions,WrongQuestions,SurprisesTriggered,"
+                    + "PositiveSurprises,NegativeSurprises,LivesRemaining\n");
+            String quoted = "\"" + "a,\n".repeat(500) + "\"\"\"";
+            for (int i = 0; sb.length() < MappedHistoryReader.MIN_SIZE + 1000; i++) {
+                String player1 = (i % 3 == 0) ? "O\"Brien" + i : (i % 7 == 0) ? quoted : "p" + i;
+                sb.append("2024-01-01 10:00:00,").append(player1).append(",b,u,EASY,true,")
+                  .append(i).append(",60,1,2,1,1,0,0,0,3\r\n");
+            }
+            java.nio.file.Files.writeString(file, sb);
+
+            java.util.List<History> streamed = new java.util.ArrayList<>();
+            try (CsvReader csv = new CsvReader(new java.io.StringReader(sb.toString()))) {
+                HistoryManager.parseRecords(csv, streamed::add);
+            }
+            java.util.List<History> mapped = MappedHistoryReader.read(file);
+
+            assertEquals(streamed.size(), mapped.size());
+            for (int i = 0; i < streamed.size(); i++) {
+                assertEquals(streamed.get(i).getFinalScore(), mapped.get(i).getFinalScore());
+                assertEquals(streamed.get(i).getPlayer1Name(), mapped.get(i).getPlayer1Name());
+            }
+            assertEquals("O\"Brien0", streamed.get(0).getPlayer1Name());
+        } finally {
+            java.nio.file.Files.deleteIfExists(file);
+        }
+    }
+
+    // J32 – an opened 0 pins its hidden neighbours to 0, even one that was wrongly flagged
+    // (the cascade skips flags, so that neighbour stays hidden): checked against brute force
+    @Test
+    public void probabilityEngineUsesOpenedZeros() {
+        Board b = new Board(Difficulty.EASY, 5, 5, 3, 0, 0, 1L);
+        assertEquals(0, b.getCell(0, 2).getNeighborMines());
+        assertFalse(b.getCell(0, 2).isMine());
+        b.toggleFlag(1, 1); // safe: every neighbour of a 0 is
+        b.reveal(0, 2);
+        assertFalse(b.getCell(1, 1).isRevealed());
+
+        MineProbabilityEngine engine = new MineProbabilityEngine(b);
+        double[] expected = bruteForceMineProbabilities(b);
+        for (int i = 0; i < 25; i++) {
+            assertEquals(expected[i], engine.getMineProbability(i / 5, i % 5), 1e-9);
+        }
+        assertEquals(0.0, engine.getMineProbability(1, 1), 1e-9);
+    }
+
+    // chance per cell of being a mine over every layout that fits the opened cells (no specials)
+    private static double[] bruteForceMineProbabilities(Board b) {
+        int rows = b.getRows();
+        int cols = b.getCols();
+        int[] hidden = new int[rows * cols];
+        int hiddenCount = 0;
+        int mines = b.getTotalMines();
+        for (int i = 0; i < rows * cols; i++) {
+            Cell cell = b.getCell(i / cols, i % cols);
+            if (!cell.isRevealed()) hidden[hiddenCount++] = i;
+            else if (cell.isMine()) mines--;
+        }
+        boolean[] mine = new boolean[rows * cols];
+        for (int i = 0; i < rows * cols; i++) {
+            Cell cell = b.getCell(i / cols, i % cols);
+            mine[i] = cell.isRevealed() && cell.isMine();
+        }
+        double[] mineLayouts = new double[rows * cols];
+        double layouts = countLayouts(b, hidden, hiddenCount, 0, mines, mine, mineLayouts);
+        for (int i = 0; i < mineLayouts.length; i++) {
+            mineLayouts[i] /= layouts;
+            if (b.getCell(i / cols, i % cols).isRevealed()) mineLayouts[i] = mine[i] ? 1 : 0;
+        }
+        return mineLayouts;
+    }
+
+    private static double countLayouts(Board b, int[] hidden, int hiddenCount, int from, int minesLeft,
+                                       boolean[] mine, double[] mineLayouts) {
+        if (minesLeft == 0) {
+            int rows = b.getRows();
+            int cols = b.getCols();
+            for (int i = 0; i < rows * cols; i++) {
+                Cell cell = b.getCell(i / cols, i % cols);
+                if (!cell.isRevealed() || cell.isMine()) continue;
+                int around = 0;
+                for (int r = Math.max(0, i / cols - 1); r <= Math.min(rows - 1, i / cols + 1); r++) {
+                    for (int c = Math.max(0, i % cols - 1); c <= Math.min(cols - 1, i % cols + 1); c++) {
+                        if (mine[r * cols + c]) around++;
+                    }
+                }
+                if (around != cell.getNeighborMines()) return 0;
+            }
+            for (int i = 0; i < mine.length; i++) {
+                if (mine[i]) mineLayouts[i]++;
+            }
+            return 1;
+        }
+        double layouts = 0;
+        for (int h = from; h <= hiddenCount - minesLeft; h++) {
+            mine[hidden[h]] = true;
+            layouts += countLayouts(b, hidden, hiddenCount, h + 1, minesLeft - 1, mine, mineLayouts);
+            mine[hidden[h]] = false;
+        }
+        return layouts;
+    }
+
+    // J33 – concurrent warm-ups fill the pool to its depth and no further; after shutdown they do nothing
+    @Test
+    public void concurrentWarmUpsDontOvershoot() throws Exception {
+        java.util.concurrent.CountDownLatch release = new java.util.concurrent.CountDownLatch(1);
+        java.util.concurrent.atomic.AtomicInteger built = new java.util.concurrent.atomic.AtomicInteger();
+        BoardPool pool = new BoardPool(3, BoardPool.RefillPolicy.MANUAL, difficulty -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            built.incrementAndGet();
+            return new Board(difficulty);
+        });
+        try {
+            Thread[] threads = new Thread[8];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(() -> pool.warmUp(Difficulty.EASY));
+                threads[t].start();
+            }
+            for (Thread thread : threads) thread.join();
+            release.countDown();
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pool.getReadyCount(Difficulty.EASY) < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            pool.warmUp(Difficulty.EASY); // already full
+            Thread.sleep(100);
+            assertEquals(3, pool.getReadyCount(Difficulty.EASY));
+            assertEquals(3, built.get());
+        } finally {
+            pool.shutdown();
+        }
+        pool.warmUp(Difficulty.MEDIUM);
+        assertEquals(0, pool.getReadyCount(Difficulty.MEDIUM));
+    }
+
+    // J34 – reveal / toggleFlag reject cells off the board instead of wrapping onto the next row
+    @Test
+    public void revealAndFlagRejectCellsOffTheBoard() {
+        Board b = new Board(Difficulty.EASY, 4, 4, 0, 0, 0, 3L);
+        int[][] outside = {{0, 4}, {4, 0}, {-1, 0}, {0, -1}};
+        for (int[] cell : outside) {
+            try {
+                b.reveal(cell[0], cell[1]);
+                fail("reveal(" + cell[0] + "," + cell[1] + ") should throw");
+            } catch (IndexOutOfBoundsException expected) {
+            }
+            try {
+                b.toggleFlag(cell[0], cell[1]);
+                fail("toggleFlag(" + cell[0] + "," + cell[1] + ") should throw");
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+        assertEquals(16, b.getHiddenCellCount());
+        assertEquals(0, b.getFlaggedCellCount());
+    }
+
+    // J35 – a zoomed canvas in a viewport reports the cells on screen, and its minimap outlines
+    // them, after the view is moved with scrollToCell
+    @Test
+    public void minimapOutlinesTheVisibleCells() {
+        Board b = Board.withSize(Difficulty.EASY, 200, 300, 7L);
+        view.BoardCanvas canvas = new view.BoardCanvas(null, 1, 200, 300, () -> false);
+        canvas.setBoard(b);
+        canvas.setZoom(10);
+        view.BoardMinimap minimap = new view.BoardMinimap(canvas, 150);
+        javax.swing.JViewport viewport = new javax.swing.JViewport();
+        viewport.setView(canvas);
+        viewport.setSize(200, 100);
+
+        assertEquals(new java.awt.Rectangle(0, 0, 20, 10), canvas.getVisibleCells());
+
+        canvas.scrollToCell(100, 150);
+        assertEquals(new java.awt.Rectangle(140, 95, 21, 11), canvas.getVisibleCells());
+
+        // 150x100 minimap: half a pixel per cell, so the outline spans pixels 70..79 x 47..52
+        assertEquals(new java.awt.Dimension(150, 100), minimap.getPreferredSize());
+        minimap.setSize(150, 100);
+        java.awt.image.BufferedImage image = new java.awt.image.BufferedImage(150, 100, java.awt.image.BufferedImage.TYPE_INT_ARGB);
+        java.awt.Graphics g = image.getGraphics();
+        minimap.paint(g);
+        g.dispose();
+        int outline = new java.awt.Color(57, 255, 20).getRGB();
+        assertEquals(outline, image.getRGB(70, 47));
+        assertEquals(outline, image.getRGB(79, 52));
+        assertEquals(outline, image.getRGB(75, 47));
+        assertTrue(outline != image.getRGB(75, 50)); // inside the outline
+        assertTrue(outline != image.getRGB(0, 0));   // where the view was before
+    }
 }